@@ -0,0 +1,9 @@
+package one.digitalinnovation.beerstock.audit;
+
+public enum AuditAction {
+
+    CREATE,
+    INCREMENT,
+    DECREMENT,
+    DELETE
+}
@@ -0,0 +1,131 @@
+package one.digitalinnovation.beerstock.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Appends audit records as JSON lines to {@code audit-<millis>.log} files, starting a new file once the current
+ * one reaches {@code maxFileBytes} and deleting the oldest files beyond {@code maxFiles}. Not thread-safe; owned
+ * by the audit consumer thread.
+ */
+public class AuditFileWriter implements Closeable {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final boolean fsync;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private FileChannel channel;
+    private OutputStream out;
+    private long fileBytes;
+    private long lastFileMillis;
+
+    public AuditFileWriter(Path directory, long maxFileBytes, int maxFiles, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+        roll();
+    }
+
+    public void write(AuditRecord record) throws IOException {
+        line.setLength(0);
+        line.append("{\"seq\":").append(record.getSequence())
+                .append(",\"ts\":\"").append(Instant.ofEpochMilli(record.getTimestamp())).append('"')
+                .append(",\"action\":\"").append(record.getAction()).append('"')
+                .append(",\"beerId\":").append(record.getBeerId())
+                .append(",\"beer\":");
+        appendString(record.getBeerName());
+        line.append(",\"actor\":");
+        appendString(record.getActor());
+        line.append(",\"delta\":").append(record.getDelta())
+                .append(",\"before\":").append(record.getBefore())
+                .append(",\"after\":").append(record.getAfter())
+                .append("}\n");
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        if (fileBytes > 0 && fileBytes + bytes.length > maxFileBytes) {
+            flush();
+            roll();
+        }
+        out.write(bytes);
+        fileBytes += bytes.length;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            flush();
+            out.close();
+        }
+    }
+
+    private void roll() throws IOException {
+        if (out != null) {
+            out.close();
+        }
+        // Names sort chronologically; never reuse a timestamp so two rolls in the same millisecond stay distinct.
+        long millis = Math.max(System.currentTimeMillis(), lastFileMillis + 1);
+        lastFileMillis = millis;
+        Path file = directory.resolve(String.format("%s%013d%s", PREFIX, millis, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        fileBytes = channel.size();
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
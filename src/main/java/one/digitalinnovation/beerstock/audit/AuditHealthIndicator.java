@@ -0,0 +1,30 @@
+package one.digitalinnovation.beerstock.audit;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports DOWN while the audit file cannot be written, since stock movements are then only held in memory.
+ */
+@Component
+@ConditionalOnProperty(name = "beerstock.audit.enabled", matchIfMissing = true)
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class AuditHealthIndicator implements HealthIndicator {
+
+    private final AuditLog auditLog;
+
+    @Override
+    public Health health() {
+        String failure = auditLog.getFailure();
+        Health.Builder health = failure == null
+                ? Health.up()
+                : Health.down().withDetail("error", failure).withDetail("failingSince", auditLog.getFailingSince());
+        return health.withDetail("dropped", auditLog.getDropped())
+                .withDetail("queueDepth", auditLog.getQueueDepth())
+                .build();
+    }
+}
@@ -0,0 +1,222 @@
+package one.digitalinnovation.beerstock.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.AuditProperties;
+import one.digitalinnovation.beerstock.config.RateLimitProperties;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.event.BeerChangeListener;
+import one.digitalinnovation.beerstock.web.ClientKeyResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records every committed stock movement without putting file I/O on the request path: the publishing thread only
+ * copies the change into the {@link AuditRingBuffer}, and a single daemon thread writes batches to disk. At most
+ * one full buffer plus the batch in flight can be lost on a crash; records offered while the buffer is full are
+ * dropped and counted in {@code beerstock.audit.dropped} rather than slowing writers down. When the file cannot be
+ * opened or written, records not yet handed to it stay in the buffer while the writer is reopened with exponential
+ * backoff, and {@link AuditHealthIndicator} reports DOWN until a flush succeeds again; records already handed to the
+ * broken file count as dropped.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "beerstock.audit.enabled", matchIfMissing = true)
+public class AuditLog implements BeerChangeListener {
+
+    private static final String SYSTEM_ACTOR = "system";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AuditRingBuffer ring;
+    private final AuditProperties properties;
+    private final ClientKeyResolver clientKeyResolver;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter dropped;
+    private final Counter written;
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile String failure;
+    private volatile Instant failingSince;
+
+    // Owned by the consumer thread.
+    private AuditFileWriter writer;
+    private long unflushed;
+    private long retryMillis;
+
+    public AuditLog(AuditProperties properties, RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.ring = new AuditRingBuffer(properties.getBufferSize());
+        this.properties = properties;
+        this.clientKeyResolver = new ClientKeyResolver(rateLimitProperties.getApiKeyHeader());
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMillis());
+        this.retryMillis = properties.getRetryInitialMillis();
+        this.dropped = meterRegistry.counter("beerstock.audit.dropped");
+        this.written = meterRegistry.counter("beerstock.audit.written");
+        Gauge.builder("beerstock.audit.queue.depth", ring, AuditRingBuffer::depth)
+                .register(meterRegistry);
+        Gauge.builder("beerstock.audit.queue.capacity", ring, AuditRingBuffer::capacity)
+                .register(meterRegistry);
+        this.consumer = new Thread(this::consume, "audit-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Why the audit file cannot be written, or {@code null} while records reach it.
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    public Instant getFailingSince() {
+        return failingSince;
+    }
+
+    public long getDropped() {
+        return (long) dropped.count();
+    }
+
+    public long getQueueDepth() {
+        return ring.depth();
+    }
+
+    @Override
+    public void onBeerChange(BeerChangeEvent event) {
+        Beer beer = event.getBeer();
+        int before;
+        int after;
+        AuditAction action;
+        switch (event.getType()) {
+            case CREATED:
+                action = AuditAction.CREATE;
+                before = 0;
+                after = beer.getQuantity();
+                break;
+            case DELETED:
+                action = AuditAction.DELETE;
+                before = event.getPreviousQuantity();
+                after = 0;
+                break;
+            default:
+                before = event.getPreviousQuantity();
+                after = beer.getQuantity();
+                action = after >= before ? AuditAction.INCREMENT : AuditAction.DECREMENT;
+        }
+        if (!ring.offer(event.getTimestamp(), action, beer.getId(), beer.getName(), currentActor(),
+                after - before, before, after)) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void consume() {
+        while (running) {
+            try {
+                if (writer == null) {
+                    writer = new AuditFileWriter(properties.getDirectory(), properties.getMaxFileBytes(),
+                            properties.getMaxFiles(), properties.isFsync());
+                }
+                writeUntilStopped();
+            } catch (IOException | UncheckedIOException e) {
+                failed(e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryMillis));
+                retryMillis = Math.min(retryMillis * 2, properties.getRetryMaxMillis());
+            }
+        }
+        closeWriter();
+    }
+
+    private void writeUntilStopped() throws IOException {
+        long lastFlush = System.nanoTime();
+        while (running) {
+            int drained = ring.drain(batchSize, this::write);
+            unflushed += drained;
+            long now = System.nanoTime();
+            if (unflushed > 0 && (drained < batchSize || now - lastFlush >= flushIntervalNanos)) {
+                flush();
+                lastFlush = now;
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        while ((unflushed += ring.drain(batchSize, this::write)) > 0) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        writer.flush();
+        written.increment(unflushed);
+        unflushed = 0;
+        if (failure != null) {
+            log.info("Audit writer recovered after failing since {}", failingSince);
+            failure = null;
+            failingSince = null;
+        }
+        retryMillis = properties.getRetryInitialMillis();
+    }
+
+    // A record handed to the writer has left the ring, so whatever the broken file still buffered is gone. The
+    // batch that failed midway was not consumed and is written again after the reopen.
+    private void failed(Exception e) {
+        dropped.increment(unflushed);
+        unflushed = 0;
+        closeWriter();
+        if (failure == null) {
+            failingSince = Instant.now();
+            log.error("Audit writer failed; retrying while stock movements are buffered", e);
+        } else {
+            log.warn("Audit writer still failing: {}", e.getMessage());
+        }
+        failure = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Could not close audit file", e);
+        }
+        writer = null;
+    }
+
+    private void write(AuditRecord record) {
+        try {
+            writer.write(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String currentActor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return clientKeyResolver.resolve(((ServletRequestAttributes) attributes).getRequest());
+        }
+        return SYSTEM_ACTOR;
+    }
+}
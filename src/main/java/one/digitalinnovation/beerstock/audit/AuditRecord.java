@@ -0,0 +1,54 @@
+package one.digitalinnovation.beerstock.audit;
+
+/**
+ * One preallocated ring buffer slot. Producers fill it between claiming and publishing its sequence; the consumer
+ * only reads it after seeing that sequence published, so the fields need no synchronization of their own.
+ */
+public class AuditRecord {
+
+    long sequence;
+    long timestamp;
+    AuditAction action;
+    long beerId;
+    String beerName;
+    String actor;
+    int delta;
+    int before;
+    int after;
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public AuditAction getAction() {
+        return action;
+    }
+
+    public long getBeerId() {
+        return beerId;
+    }
+
+    public String getBeerName() {
+        return beerName;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public int getBefore() {
+        return before;
+    }
+
+    public int getAfter() {
+        return after;
+    }
+}
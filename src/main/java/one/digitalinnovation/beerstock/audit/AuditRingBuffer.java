@@ -0,0 +1,84 @@
+package one.digitalinnovation.beerstock.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated {@link AuditRecord}s. Producers claim a sequence
+ * with a CAS on the shared cursor, fill the slot and publish it by storing the sequence in the slot's marker; the
+ * consumer reads slots in sequence order up to the first one not yet published. A producer never waits: when the
+ * ring is full the offer is refused and the caller counts the record as dropped.
+ */
+public class AuditRingBuffer {
+
+    private final AuditRecord[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private volatile long consumed = -1;
+
+    public AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.slots = new AuditRecord[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AuditRecord();
+            published.set(i, -1);
+        }
+    }
+
+    public boolean offer(long timestamp, AuditAction action, long beerId, String beerName, String actor,
+                         int delta, int before, int after) {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1;
+            if (sequence - consumed > slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence - 1, sequence));
+        int index = (int) (sequence & mask);
+        AuditRecord record = slots[index];
+        record.sequence = sequence;
+        record.timestamp = timestamp;
+        record.action = action;
+        record.beerId = beerId;
+        record.beerName = beerName;
+        record.actor = actor;
+        record.delta = delta;
+        record.before = before;
+        record.after = after;
+        published.set(index, sequence);
+        return true;
+    }
+
+    /**
+     * Hands up to {@code max} published records to {@code handler} in sequence order and frees their slots.
+     * Must only be called from the single consumer thread.
+     */
+    public int drain(int max, Consumer<AuditRecord> handler) {
+        long next = consumed + 1;
+        int drained = 0;
+        while (drained < max && published.get((int) (next & mask)) == next) {
+            AuditRecord record = slots[(int) (next & mask)];
+            handler.accept(record);
+            record.beerName = null;
+            record.actor = null;
+            next++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumed = next - 1;
+        }
+        return drained;
+    }
+
+    public long depth() {
+        return Math.max(0, claimed.get() - consumed);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,38 @@
+package one.digitalinnovation.beerstock.catalog;
+
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.service.BeerService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Answers filtered catalog reads from the columnar snapshot when {@code beerstock.columnar.enabled} is set and
+ * falls back to filtering the full list otherwise.
+ */
+@Service
+@Profile("!reactive")
+public class CatalogQueryService {
+
+    private final BeerService beerService;
+    private final ColumnarCatalogService columnarCatalogService;
+
+    public CatalogQueryService(BeerService beerService, ObjectProvider<ColumnarCatalogService> columnarCatalogService) {
+        this.beerService = beerService;
+        this.columnarCatalogService = columnarCatalogService.getIfAvailable();
+    }
+
+    public List<BeerDTO> filter(BeerFilterDTO filter) {
+        if (columnarCatalogService != null) {
+            return columnarCatalogService.filter(filter);
+        }
+        return beerService.listAll().stream()
+                .filter(filter::matches)
+                .limit(filter.getLimit())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,257 @@
+package one.digitalinnovation.beerstock.catalog;
+
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented copy of the catalog: one primitive array per numeric field, brands dictionary-encoded and a
+ * bitmap of rows per {@link BeerType}. A filter starts from the type bitmap and ANDs it, 64 rows at a time, with
+ * masks computed by branch-free loops over the quantity and brand columns, so words the bitmap already rules out
+ * are never scanned. Deleted rows leave holes that are compacted away once they make up a quarter of the table.
+ */
+public class ColumnarCatalog {
+
+    private static final BeerType[] TYPES = BeerType.values();
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final int MIN_DEAD_ROWS_TO_COMPACT = 1_024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowsById = new LongIntHashMap(INITIAL_CAPACITY);
+    private final List<String> brands = new ArrayList<>();
+    private final Map<String, Integer> brandCodes = new HashMap<>();
+    private final BitSet[] rowsByType = new BitSet[TYPES.length];
+    private BitSet live = new BitSet();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int[] maxes = new int[INITIAL_CAPACITY];
+    private int[] brandColumn = new int[INITIAL_CAPACITY];
+    private byte[] typeColumn = new byte[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int rowCount;
+    private int deadRows;
+
+    public ColumnarCatalog() {
+        for (int i = 0; i < rowsByType.length; i++) {
+            rowsByType[i] = new BitSet();
+        }
+    }
+
+    public void put(Beer beer) {
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.get(beer.getId());
+            if (row == LongIntHashMap.MISSING) {
+                row = rowCount++;
+                ensureCapacity(rowCount);
+                rowsById.put(beer.getId(), row);
+                live.set(row);
+            } else {
+                rowsByType[typeColumn[row]].clear(row);
+            }
+            ids[row] = beer.getId();
+            versions[row] = beer.getVersion() == null ? 0 : beer.getVersion();
+            quantities[row] = beer.getQuantity();
+            maxes[row] = beer.getMax();
+            brandColumn[row] = brandCodes.computeIfAbsent(beer.getBrand(), brand -> {
+                brands.add(brand);
+                return brands.size() - 1;
+            });
+            typeColumn[row] = (byte) beer.getType().ordinal();
+            names[row] = beer.getName();
+            rowsByType[typeColumn[row]].set(row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Long versionOf(Long id) {
+        lock.readLock().lock();
+        try {
+            int row = rowsById.get(id);
+            return row == LongIntHashMap.MISSING ? null : versions[row];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            int row = rowsById.remove(id);
+            if (row == LongIntHashMap.MISSING) {
+                return;
+            }
+            live.clear(row);
+            rowsByType[typeColumn[row]].clear(row);
+            names[row] = null;
+            deadRows++;
+            if (deadRows >= MIN_DEAD_ROWS_TO_COMPACT && deadRows * 4 >= rowCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(BeerFilterDTO filter) {
+        lock.readLock().lock();
+        try {
+            long count = 0;
+            for (long word : match(filter)) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Beer> filter(BeerFilterDTO filter) {
+        lock.readLock().lock();
+        try {
+            long[] words = match(filter);
+            List<Beer> results = new ArrayList<>();
+            for (int w = 0; w < words.length && results.size() < filter.getLimit(); w++) {
+                long word = words[w];
+                while (word != 0 && results.size() < filter.getLimit()) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(word);
+                    results.add(new Beer(ids[row], names[row], brands.get(brandColumn[row]), maxes[row],
+                            quantities[row], TYPES[typeColumn[row]]));
+                    word &= word - 1;
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap held by the columns, bitmaps, id lookup and brand dictionary, excluding the name strings,
+     * which any representation of the catalog has to keep.
+     */
+    public long estimatedColumnBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) ids.length * (2 * Long.BYTES + 3 * Integer.BYTES + 1 + 4) + rowsById.bytes();
+            bytes += live.size() / 8 * (1 + rowsByType.length);
+            for (String brand : brands) {
+                bytes += 40 + brand.length() * 2L;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Must be called with the read lock held.
+    private long[] match(BeerFilterDTO filter) {
+        long[] words = (filter.getType() == null ? live : rowsByType[filter.getType().ordinal()]).toLongArray();
+        int brandCode = -1;
+        if (filter.getBrand() != null) {
+            Integer code = brandCodes.get(filter.getBrand());
+            if (code == null) {
+                return new long[0];
+            }
+            brandCode = code;
+        }
+        int low = filter.getMinQuantity();
+        int high = filter.getMaxQuantity();
+        if (low > high) {
+            return new long[0];
+        }
+        boolean quantityFiltered = low > 0 || high < Integer.MAX_VALUE;
+        for (int w = 0; w < words.length; w++) {
+            if (words[w] == 0) {
+                continue;
+            }
+            int base = w << 6;
+            int end = Math.min(64, rowCount - base);
+            if (quantityFiltered) {
+                words[w] &= quantityMask(base, end, low, high);
+            }
+            if (brandCode >= 0) {
+                words[w] &= brandMask(base, end, brandCode);
+            }
+        }
+        return words;
+    }
+
+    // Bit j is set when low <= quantity <= high; both differences are non-negative exactly when the row matches.
+    private long quantityMask(int base, int end, int low, int high) {
+        long mask = 0;
+        for (int j = 0; j < end; j++) {
+            int quantity = quantities[base + j];
+            mask |= ((long) (~((quantity - low) | (high - quantity)) >>> 31)) << j;
+        }
+        return mask;
+    }
+
+    // Bit j is set when the brand code matches: (code ^ wanted) - 1 is negative only when the codes are equal.
+    private long brandMask(int base, int end, int brandCode) {
+        long mask = 0;
+        for (int j = 0; j < end; j++) {
+            mask |= ((long) (((brandColumn[base + j] ^ brandCode) - 1) >>> 31)) << j;
+        }
+        return mask;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        versions = Arrays.copyOf(versions, newCapacity);
+        quantities = Arrays.copyOf(quantities, newCapacity);
+        maxes = Arrays.copyOf(maxes, newCapacity);
+        brandColumn = Arrays.copyOf(brandColumn, newCapacity);
+        typeColumn = Arrays.copyOf(typeColumn, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+    }
+
+    private void compact() {
+        int target = 0;
+        BitSet compactedLive = new BitSet(rowsById.size());
+        for (BitSet rows : rowsByType) {
+            rows.clear();
+        }
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            ids[target] = ids[row];
+            versions[target] = versions[row];
+            quantities[target] = quantities[row];
+            maxes[target] = maxes[row];
+            brandColumn[target] = brandColumn[row];
+            typeColumn[target] = typeColumn[row];
+            names[target] = names[row];
+            rowsById.put(ids[target], target);
+            compactedLive.set(target);
+            rowsByType[typeColumn[target]].set(target);
+            target++;
+        }
+        Arrays.fill(names, target, rowCount, null);
+        live = compactedLive;
+        rowCount = target;
+        deadRows = 0;
+    }
+}
@@ -0,0 +1,63 @@
+package one.digitalinnovation.beerstock.catalog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerProjection;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty("beerstock.columnar.enabled")
+public class ColumnarCatalogService extends BeerProjection {
+
+    private final ColumnarCatalog catalog = new ColumnarCatalog();
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    public ColumnarCatalogService(BeerRepository beerRepository, MeterRegistry meterRegistry) {
+        super(beerRepository);
+        Gauge.builder("beerstock.columnar.rows", catalog, ColumnarCatalog::size)
+                .register(meterRegistry);
+        Gauge.builder("beerstock.columnar.column-bytes", catalog, ColumnarCatalog::estimatedColumnBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public List<BeerDTO> filter(BeerFilterDTO filter) {
+        return catalog.filter(filter).stream()
+                .map(beerMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void put(Beer beer) {
+        catalog.put(beer);
+    }
+
+    @Override
+    protected Long versionOf(Long id) {
+        return catalog.versionOf(id);
+    }
+
+    @Override
+    protected void remove(Long id) {
+        catalog.remove(id);
+    }
+
+    @Override
+    protected int size() {
+        return catalog.size();
+    }
+}
@@ -0,0 +1,34 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Data
+@ConfigurationProperties("beerstock.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private Path directory = Paths.get("audit");
+
+    // Rounded up to a power of two; also the most records a crash can lose besides the batch being written.
+    private int bufferSize = 65_536;
+
+    private int batchSize = 1_024;
+
+    private long flushIntervalMillis = 200;
+
+    private boolean fsync = false;
+
+    private long maxFileBytes = 64L * 1024 * 1024;
+
+    private int maxFiles = 20;
+
+    // Delay before reopening a failed audit file, doubled after every further failure up to the maximum.
+    private long retryInitialMillis = 100;
+
+    private long retryMaxMillis = 30_000;
+}
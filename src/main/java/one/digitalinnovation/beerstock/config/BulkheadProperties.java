@@ -0,0 +1,33 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import one.digitalinnovation.beerstock.web.RequestLane;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties("beerstock.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    private int retryAfterSeconds = 1;
+
+    private Map<RequestLane, Lane> lanes = new EnumMap<>(RequestLane.class);
+
+    public Lane getLane(RequestLane lane) {
+        return lanes.computeIfAbsent(lane, key -> new Lane());
+    }
+
+    @Data
+    public static class Lane {
+
+        private int maxConcurrent = 10;
+
+        private int maxQueued = 50;
+
+        private long maxWaitMillis = 200;
+    }
+}
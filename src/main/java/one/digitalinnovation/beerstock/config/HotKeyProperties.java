@@ -0,0 +1,17 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("beerstock.hot-keys")
+public class HotKeyProperties {
+
+    private int depth = 4;
+
+    private int width = 4096;
+
+    private int topK = 20;
+
+    private long decayIntervalMillis = 60_000;
+}
@@ -0,0 +1,30 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Data
+@ConfigurationProperties("beerstock.import")
+public class ImportProperties {
+
+    // Uploaded files and their checkpoints are kept here until the import completes, so a failed one can resume.
+    private Path directory = Paths.get("imports");
+
+    // Larger uploads are rejected with 413 Payload Too Large.
+    private long maxBytes = 100L * 1024 * 1024;
+
+    private int chunkSize = 1_000;
+
+    private int validationParallelism = Runtime.getRuntime().availableProcessors();
+
+    private int maxReportedErrors = 1_000;
+
+    // Completed and failed jobs are forgotten this long after they finish; a failed one can still be resumed from its
+    // spool afterwards.
+    private long retentionMillis = 3_600_000;
+
+    private long evictionIntervalMillis = 60_000;
+}
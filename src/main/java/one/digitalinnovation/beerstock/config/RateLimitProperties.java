@@ -0,0 +1,41 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import one.digitalinnovation.beerstock.web.RequestLane;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Validated at startup: a zero or negative budget would reject, or never refill, every request of its lane.
+@Data
+@Validated
+@ConfigurationProperties("beerstock.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private String apiKeyHeader = "X-API-Key";
+
+    @Positive
+    private int maxClients = 100_000;
+
+    private Map<RequestLane, @Valid Budget> budgets = new EnumMap<>(RequestLane.class);
+
+    public Budget getBudget(RequestLane lane) {
+        return budgets.computeIfAbsent(lane, key -> new Budget());
+    }
+
+    @Data
+    public static class Budget {
+
+        @Positive
+        private int capacity = 50;
+
+        @Positive
+        private double refillPerSecond = 25;
+    }
+}
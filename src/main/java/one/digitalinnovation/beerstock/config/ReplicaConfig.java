@@ -0,0 +1,103 @@
+package one.digitalinnovation.beerstock.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.digitalinnovation.beerstock.replication.ClientContextFilter;
+import one.digitalinnovation.beerstock.replication.ClientWriteTracker;
+import one.digitalinnovation.beerstock.replication.ReplicaMaintenance;
+import one.digitalinnovation.beerstock.replication.ReplicaNode;
+import one.digitalinnovation.beerstock.replication.ReplicaRoutingDataSource;
+import one.digitalinnovation.beerstock.replication.ReplicaSet;
+import one.digitalinnovation.beerstock.replication.ReplicationListener;
+import one.digitalinnovation.beerstock.web.ClientKeyResolver;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@Profile("replicas")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaConfig {
+
+    // The pools are deliberately not beans: DataSource initialization would otherwise try to resolve the routing
+    // data source while it is still being created. The replica set owns and closes them.
+    @Bean(destroyMethod = "shutdown")
+    public ReplicaSet replicaSet(DataSourceProperties dataSourceProperties, ReplicaProperties properties,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primaryDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primaryDataSource.setPoolName("primary");
+        primaryDataSource.setMaximumPoolSize(properties.getPrimaryMaximumPoolSize());
+        List<ReplicaNode> nodes = new ArrayList<>();
+        for (ReplicaProperties.Node node : properties.getNodes()) {
+            String name = "replica-" + nodes.size();
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername());
+            dataSource.setPassword(node.getPassword());
+            dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+            ReplicaNode replica = new ReplicaNode(name, dataSource, primaryDataSource);
+            Gauge.builder("beerstock.replica.staleness", replica, r -> r.getStalenessMillis(System.currentTimeMillis()))
+                    .tag("replica", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("beerstock.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            nodes.add(replica);
+        }
+        return new ReplicaSet(primaryDataSource, nodes, properties.getMaxStalenessMillis(), System::currentTimeMillis);
+    }
+
+    @Bean
+    public ClientWriteTracker clientWriteTracker(ReplicaProperties properties) {
+        return new ClientWriteTracker(properties.getStickinessMillis(), System::currentTimeMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaSet replicaSet, ClientWriteTracker clientWriteTracker) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaSet, clientWriteTracker);
+        Map<Object, Object> targets = new HashMap<>();
+        for (ReplicaNode node : replicaSet.getNodes()) {
+            targets.put(node.getName(), node.getDataSource());
+        }
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(replicaSet.getPrimary());
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReplicationListener replicationListener(ReplicaSet replicaSet, ClientWriteTracker clientWriteTracker) {
+        return new ReplicationListener(replicaSet, clientWriteTracker);
+    }
+
+    @Bean
+    public ReplicaMaintenance replicaMaintenance(ReplicaSet replicaSet, ClientWriteTracker clientWriteTracker) {
+        return new ReplicaMaintenance(replicaSet, clientWriteTracker);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientContextFilter> clientContextFilter(RateLimitProperties rateLimitProperties) {
+        FilterRegistrationBean<ClientContextFilter> registration = new FilterRegistrationBean<>(
+                new ClientContextFilter(new ClientKeyResolver(rateLimitProperties.getApiKeyHeader())));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
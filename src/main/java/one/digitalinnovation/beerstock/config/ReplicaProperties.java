@@ -0,0 +1,34 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties("beerstock.replicas")
+public class ReplicaProperties {
+
+    private int primaryMaximumPoolSize = 20;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    private long maxStalenessMillis = 1_000;
+
+    private long stickinessMillis = 10_000;
+
+    private long healthCheckIntervalMillis = 2_000;
+
+    @Data
+    public static class Node {
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        private int maximumPoolSize = 10;
+    }
+}
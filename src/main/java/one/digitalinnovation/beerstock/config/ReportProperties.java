@@ -0,0 +1,19 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Data
+@ConfigurationProperties("beerstock.report")
+public class ReportProperties {
+
+    private Path directory = Paths.get("reports");
+
+    private int pageSize = 1_000;
+
+    // Older report files are deleted once this many have been written.
+    private int maxReports = 20;
+}
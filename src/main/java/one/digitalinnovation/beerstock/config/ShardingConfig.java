@@ -0,0 +1,69 @@
+package one.digitalinnovation.beerstock.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import one.digitalinnovation.beerstock.sharding.ShardRebalancer;
+import one.digitalinnovation.beerstock.sharding.ShardRoutingDataSource;
+import one.digitalinnovation.beerstock.sharding.ShardSet;
+import one.digitalinnovation.beerstock.sharding.ShardedRepositoryAspect;
+import one.digitalinnovation.beerstock.sharding.ShardsEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@Profile("sharded")
+public class ShardingConfig {
+
+    // The shard pools are owned by the shard set rather than registered as beans, for the same reason as the
+    // replica pools: DataSource initialization must only ever see the routing data source.
+    @Bean(destroyMethod = "shutdown")
+    public ShardSet shardSet(ShardingProperties properties) {
+        List<DataSource> shards = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.add(dataSource);
+        }
+        ShardSet shardSet = new ShardSet(shards, properties.getIdStride());
+        shardSet.initialize();
+        return shardSet;
+    }
+
+    @Bean
+    public DataSource dataSource(ShardSet shardSet) {
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardSet.size(); shard++) {
+            targets.put(shard, shardSet.getShard(shard));
+        }
+        routing.setTargetDataSources(targets);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ShardedRepositoryAspect shardedRepositoryAspect(ShardSet shardSet) {
+        return new ShardedRepositoryAspect(shardSet);
+    }
+
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardSet shardSet) {
+        return new ShardRebalancer(shardSet);
+    }
+
+    @Bean
+    public ShardsEndpoint shardsEndpoint(ShardSet shardSet, ShardRebalancer shardRebalancer) {
+        return new ShardsEndpoint(shardSet, shardRebalancer);
+    }
+}
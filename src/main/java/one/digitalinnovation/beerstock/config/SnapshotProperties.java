@@ -0,0 +1,17 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Data
+@ConfigurationProperties("beerstock.snapshot")
+public class SnapshotProperties {
+
+    private Path path;
+
+    private boolean loadOnStartup = false;
+
+    private int batchSize = 10_000;
+}
@@ -0,0 +1,35 @@
+package one.digitalinnovation.beerstock.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import one.digitalinnovation.beerstock.monitoring.StatementCountingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "beerstock.sql-stats.enabled", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    // Static so wrapping the DataSource does not force this configuration, and whatever it depends on, to be
+    // created before the other post-processors.
+    @Bean
+    public static BeanPostProcessor statementCountingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)) {
+                    Timer timer = Timer.builder("beerstock.sql.statements")
+                            .description("JDBC statements executed, across all requests")
+                            .register(meterRegistry.getObject());
+                    return new StatementCountingDataSource((DataSource) bean, timer);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("beerstock.sql-stats")
+public class SqlStatsProperties {
+
+    private boolean enabled = true;
+
+    // Buffers each response so the counts can be sent as headers; meant for debugging, not production traffic.
+    private boolean debugHeaders = false;
+}
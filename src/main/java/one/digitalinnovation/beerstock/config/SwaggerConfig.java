@@ -2,6 +2,7 @@ package one.digitalinnovation.beerstock.config;
 
 import static springfox.documentation.builders.RequestHandlerSelectors.basePackage;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,6 +16,7 @@ import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 @Configuration
 @EnableSwagger2
+@ConditionalOnProperty(name = "beerstock.swagger.enabled", matchIfMissing = true)
 public class SwaggerConfig {
 
     private static final String BASE_PACKAGE = "one.digitalinnovation.beerstock.controller";
@@ -0,0 +1,18 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("beerstock.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = false;
+
+    private int iterations = 200;
+
+    private int lookups = 20;
+
+    // Rows read per iteration; synthetic beers of the same count are serialized while the catalog is empty.
+    private int pageSize = 50;
+}
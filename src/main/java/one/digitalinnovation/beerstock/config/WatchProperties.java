@@ -0,0 +1,16 @@
+package one.digitalinnovation.beerstock.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("beerstock.watch")
+public class WatchProperties {
+
+    private long maxTimeoutMillis = 60_000;
+
+    private int maxWaiters = 10_000;
+
+    // Beers nobody is waiting on are forgotten beyond this; the next watch on one reads it back with one lookup.
+    private int maxTrackedBeers = 100_000;
+}
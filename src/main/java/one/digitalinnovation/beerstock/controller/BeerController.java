@@ -1,15 +1,26 @@
 package one.digitalinnovation.beerstock.controller;
 
 import lombok.AllArgsConstructor;
+import one.digitalinnovation.beerstock.catalog.CatalogQueryService;
 import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.dto.BeerWatchDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteResultDTO;
 import one.digitalinnovation.beerstock.dto.QuantityDTO;
 import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
 import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
 import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
 import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.search.BeerSearchService;
+import one.digitalinnovation.beerstock.service.BeerPurgeService;
 import one.digitalinnovation.beerstock.service.BeerService;
+import one.digitalinnovation.beerstock.watch.BeerWatchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -17,18 +28,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.validation.Valid;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/beers")
 @AllArgsConstructor(onConstructor = @__(@Autowired))
 public class BeerController implements BeerControllerDocs {
 
     private final BeerService beerService;
+    private final BeerSearchService beerSearchService;
+    private final CatalogQueryService catalogQueryService;
+    private final BeerPurgeService beerPurgeService;
+    private final BeerWatchService beerWatchService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -36,6 +54,18 @@ public class BeerController implements BeerControllerDocs {
         return beerService.createBeer(beerDTO);
     }
 
+    @GetMapping("/search")
+    public List<BeerDTO> search(@RequestParam("q") String query,
+                                @RequestParam(required = false) BeerType type,
+                                @RequestParam(defaultValue = "20") int limit) {
+        return beerSearchService.search(query, type, Math.max(1, Math.min(limit, 100)));
+    }
+
+    @GetMapping("/filter")
+    public List<BeerDTO> filter(@Valid BeerFilterDTO filter) {
+        return catalogQueryService.filter(filter);
+    }
+
     @GetMapping("/{name}")
     public BeerDTO findByName(@PathVariable String name) throws BeerNotFoundException {
         return beerService.findByName(name);
@@ -52,6 +82,18 @@ public class BeerController implements BeerControllerDocs {
         beerService.deleteById(id);
     }
 
+    @PostMapping("/bulk-delete")
+    public BulkDeleteResultDTO bulkDelete(@RequestBody @Valid BulkDeleteDTO bulkDeleteDTO) {
+        return beerPurgeService.delete(bulkDeleteDTO);
+    }
+
+    @GetMapping("/{id}/watch")
+    public DeferredResult<ResponseEntity<BeerWatchDTO>> watch(@PathVariable Long id,
+                                                              @RequestParam(required = false) Long sinceVersion,
+                                                              @RequestParam(defaultValue = "30000") long timeout) throws BeerNotFoundException {
+        return beerWatchService.watch(id, sinceVersion, timeout);
+    }
+
     @PatchMapping("/{id}/increment")
     public BeerDTO increment(@PathVariable Long id, @RequestBody @Valid QuantityDTO quantityDTO) throws BeerNotFoundException, BeerStockExceededException {
         return beerService.increment(id, quantityDTO.getQuantity());
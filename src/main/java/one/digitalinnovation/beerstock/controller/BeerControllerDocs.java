@@ -2,13 +2,20 @@ package one.digitalinnovation.beerstock.controller;
 
 import java.util.List;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.dto.BeerWatchDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteResultDTO;
+import one.digitalinnovation.beerstock.enums.BeerType;
 import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
 import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
 
@@ -29,6 +36,19 @@ public interface BeerControllerDocs {
     })
     BeerDTO findByName(@PathVariable String name) throws BeerNotFoundException;
 
+    @ApiOperation(value = "Returns beers whose name or brand matches the query by prefix or with small typos, most relevant first")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Matching beers ranked by relevance, optionally restricted to one type"),
+    })
+    List<BeerDTO> search(String query, BeerType type, int limit);
+
+    @ApiOperation(value = "Returns beers filtered by type, brand and quantity range")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Beers matching every given criterion, in catalog order"),
+            @ApiResponse(code = 400, message = "Negative quantity bound or limit out of range.")
+    })
+    List<BeerDTO> filter(BeerFilterDTO filter);
+
     @ApiOperation(value = "Returns a list of all beers registered in the system")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "List of all beers registered in the system"),
@@ -41,4 +61,20 @@ public interface BeerControllerDocs {
             @ApiResponse(code = 404, message = "Beer with given id not found.")
     })
     void deleteById(@PathVariable Long id) throws BeerNotFoundException;
+
+    @ApiOperation(value = "Delete every beer matching a list of ids, a brand or a type")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Number of beers deleted and the requested ids that did not exist"),
+            @ApiResponse(code = 400, message = "Not exactly one criterion given, or too many ids.")
+    })
+    BulkDeleteResultDTO bulkDelete(BulkDeleteDTO bulkDeleteDTO);
+
+    @ApiOperation(value = "Waits until the quantity of a beer changes after the given version, or the timeout in milliseconds elapses")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Current beer state and version; immediate when sinceVersion is omitted or already outdated"),
+            @ApiResponse(code = 304, message = "No change before the timeout."),
+            @ApiResponse(code = 404, message = "Beer with given id not found."),
+            @ApiResponse(code = 503, message = "Too many requests are already waiting.")
+    })
+    DeferredResult<ResponseEntity<BeerWatchDTO>> watch(Long id, Long sinceVersion, long timeout) throws BeerNotFoundException;
 }
@@ -0,0 +1,46 @@
+package one.digitalinnovation.beerstock.controller;
+
+import lombok.AllArgsConstructor;
+import one.digitalinnovation.beerstock.dto.ImportStatusDTO;
+import one.digitalinnovation.beerstock.exception.ImportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ImportNotResumableException;
+import one.digitalinnovation.beerstock.exception.ImportTooLargeException;
+import one.digitalinnovation.beerstock.importer.BeerImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/beers/imports")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerImportController implements BeerImportControllerDocs {
+
+    private final BeerImportService beerImportService;
+
+    @PostMapping(consumes = "text/csv")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportStatusDTO startImport(InputStream csv) throws IOException, ImportTooLargeException {
+        return beerImportService.start(csv);
+    }
+
+    @GetMapping("/{id}")
+    public ImportStatusDTO importStatus(@PathVariable String id) throws ImportNotFoundException {
+        return beerImportService.status(id);
+    }
+
+    @PostMapping("/{id}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImportStatusDTO resumeImport(@PathVariable String id) throws ImportNotFoundException, ImportNotResumableException, IOException {
+        return beerImportService.resume(id);
+    }
+}
@@ -0,0 +1,39 @@
+package one.digitalinnovation.beerstock.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import one.digitalinnovation.beerstock.dto.ImportStatusDTO;
+import one.digitalinnovation.beerstock.exception.ImportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ImportNotResumableException;
+import one.digitalinnovation.beerstock.exception.ImportTooLargeException;
+
+@Api("Imports beer catalogs from CSV files")
+public interface BeerImportControllerDocs {
+
+    @ApiOperation(value = "Starts importing a CSV file with a name,brand,max,quantity,type header")
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Import accepted; poll its status with the returned id"),
+            @ApiResponse(code = 413, message = "File is larger than the configured limit.")
+    })
+    ImportStatusDTO startImport(InputStream csv) throws IOException, ImportTooLargeException;
+
+    @ApiOperation(value = "Returns the progress and the rejected rows of an import")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Current progress of the import"),
+            @ApiResponse(code = 404, message = "Import with given id not found.")
+    })
+    ImportStatusDTO importStatus(String id) throws ImportNotFoundException;
+
+    @ApiOperation(value = "Resumes a failed import from its last checkpoint")
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Import resumed"),
+            @ApiResponse(code = 404, message = "No unfinished import with given id."),
+            @ApiResponse(code = 409, message = "Import is still running or already completed.")
+    })
+    ImportStatusDTO resumeImport(String id) throws ImportNotFoundException, ImportNotResumableException, IOException;
+}
@@ -0,0 +1,53 @@
+package one.digitalinnovation.beerstock.controller;
+
+import lombok.AllArgsConstructor;
+import one.digitalinnovation.beerstock.dto.InventoryReportDTO;
+import one.digitalinnovation.beerstock.exception.ReportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ReportNotReadyException;
+import one.digitalinnovation.beerstock.report.InventoryReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/beers/reports")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class InventoryReportController implements InventoryReportControllerDocs {
+
+    private final InventoryReportService inventoryReportService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public InventoryReportDTO startReport() {
+        return inventoryReportService.start();
+    }
+
+    @GetMapping("/{id}")
+    public InventoryReportDTO reportStatus(@PathVariable String id) throws ReportNotFoundException {
+        return inventoryReportService.status(id);
+    }
+
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable String id) throws ReportNotFoundException, ReportNotReadyException {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+                        .filename("inventory-" + id + ".csv")
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(inventoryReportService.file(id)));
+    }
+}
@@ -0,0 +1,37 @@
+package one.digitalinnovation.beerstock.controller;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import one.digitalinnovation.beerstock.dto.InventoryReportDTO;
+import one.digitalinnovation.beerstock.exception.ReportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ReportNotReadyException;
+
+@Api("Produces point-in-time inventory reports")
+public interface InventoryReportControllerDocs {
+
+    @ApiOperation(value = "Starts a report of every beer's quantity as of a single point in time")
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Report accepted; poll its status with the returned id")
+    })
+    InventoryReportDTO startReport();
+
+    @ApiOperation(value = "Returns the state and totals of a report")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Current state of the report"),
+            @ApiResponse(code = 404, message = "Report with given id not found.")
+    })
+    InventoryReportDTO reportStatus(String id) throws ReportNotFoundException;
+
+    @ApiOperation(value = "Downloads a completed report as CSV")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "The report file"),
+            @ApiResponse(code = 404, message = "Report with given id not found."),
+            @ApiResponse(code = 409, message = "Report is not completed yet.")
+    })
+    ResponseEntity<Resource> downloadReport(String id) throws ReportNotFoundException, ReportNotReadyException;
+}
@@ -0,0 +1,41 @@
+package one.digitalinnovation.beerstock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeerFilterDTO {
+
+    private BeerType type;
+
+    private String brand;
+
+    @Min(0)
+    @Builder.Default
+    private int minQuantity = 0;
+
+    @Min(0)
+    @Builder.Default
+    private int maxQuantity = Integer.MAX_VALUE;
+
+    @Min(1)
+    @Max(10_000)
+    @Builder.Default
+    private int limit = 1_000;
+
+    public boolean matches(BeerDTO beer) {
+        return (type == null || type == beer.getType())
+                && (brand == null || brand.equals(beer.getBrand()))
+                && beer.getQuantity() >= minQuantity
+                && beer.getQuantity() <= maxQuantity;
+    }
+}
@@ -0,0 +1,20 @@
+package one.digitalinnovation.beerstock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeerWatchDTO {
+
+    // Pass back as sinceVersion to wait for the next change.
+    private long version;
+
+    private boolean deleted;
+
+    private BeerDTO beer;
+}
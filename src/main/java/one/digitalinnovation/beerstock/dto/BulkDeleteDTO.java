@@ -0,0 +1,33 @@
+package one.digitalinnovation.beerstock.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteDTO {
+
+    @Size(max = 10_000)
+    private List<Long> ids;
+
+    @Size(min = 1, max = 200)
+    private String brand;
+
+    private BeerType type;
+
+    @JsonIgnore
+    @AssertTrue(message = "exactly one of ids, brand or type must be given")
+    public boolean isSingleCriterion() {
+        return (ids != null ? 1 : 0) + (brand != null ? 1 : 0) + (type != null ? 1 : 0) == 1;
+    }
+}
@@ -0,0 +1,36 @@
+package one.digitalinnovation.beerstock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportStatusDTO {
+
+    private String id;
+
+    private String state;
+
+    // Data rows read so far, including the ones skipped when resuming from a checkpoint.
+    private long rowsProcessed;
+
+    private long imported;
+
+    private long rejected;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private String failure;
+
+    // The first rejected rows, up to beerstock.import.max-reported-errors.
+    private List<String> errors;
+}
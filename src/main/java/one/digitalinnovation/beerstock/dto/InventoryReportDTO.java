@@ -0,0 +1,32 @@
+package one.digitalinnovation.beerstock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryReportDTO {
+
+    private String id;
+
+    private String state;
+
+    private Instant requestedAt;
+
+    // When the snapshot transaction took its first read; quantities in the report are as of this moment.
+    private Instant snapshotAt;
+
+    private Instant finishedAt;
+
+    private long beers;
+
+    private long totalQuantity;
+
+    private String failure;
+}
@@ -12,6 +12,7 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Version;
 
 @Data
 @Entity
@@ -20,6 +21,7 @@ import javax.persistence.Id;
 public class Beer {
 
     @Id
+    @org.springframework.data.annotation.Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -39,5 +41,13 @@ public class Beer {
     @Column(nullable = false)
     private BeerType type;
 
+    // Bumped by every update while the row is locked, so it orders changes to one beer by commit. The default lets
+    // the column be added to tables that already hold rows.
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version;
 
+    public Beer(Long id, String name, String brand, int max, int quantity, BeerType type) {
+        this(id, name, brand, max, quantity, type, null);
+    }
 }
@@ -0,0 +1,52 @@
+package one.digitalinnovation.beerstock.event;
+
+import lombok.Value;
+import one.digitalinnovation.beerstock.entity.Beer;
+
+/**
+ * A committed change to one beer. {@link #version} orders changes to the same beer: it is the row version written
+ * under the row lock, and a deletion counts as one past the last version, so it wins over any earlier change that
+ * is delivered after it.
+ */
+@Value
+public class BeerChangeEvent {
+
+    public enum Type {
+        CREATED,
+        STOCK_CHANGED,
+        DELETED
+    }
+
+    Type type;
+
+    Beer beer;
+
+    long version;
+
+    int previousQuantity;
+
+    long timestamp;
+
+    public static BeerChangeEvent created(Beer beer) {
+        return new BeerChangeEvent(Type.CREATED, copyOf(beer), versionOf(beer), 0, System.currentTimeMillis());
+    }
+
+    public static BeerChangeEvent stockChanged(Beer beer, int previousQuantity) {
+        return new BeerChangeEvent(Type.STOCK_CHANGED, copyOf(beer), versionOf(beer), previousQuantity,
+                System.currentTimeMillis());
+    }
+
+    public static BeerChangeEvent deleted(Beer beer) {
+        return new BeerChangeEvent(Type.DELETED, copyOf(beer), versionOf(beer) + 1, beer.getQuantity(),
+                System.currentTimeMillis());
+    }
+
+    private static long versionOf(Beer beer) {
+        return beer.getVersion() == null ? 0 : beer.getVersion();
+    }
+
+    private static Beer copyOf(Beer beer) {
+        return new Beer(beer.getId(), beer.getName(), beer.getBrand(), beer.getMax(), beer.getQuantity(), beer.getType(),
+                beer.getVersion());
+    }
+}
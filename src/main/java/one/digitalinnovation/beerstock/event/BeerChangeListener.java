@@ -0,0 +1,6 @@
+package one.digitalinnovation.beerstock.event;
+
+public interface BeerChangeListener {
+
+    void onBeerChange(BeerChangeEvent event);
+}
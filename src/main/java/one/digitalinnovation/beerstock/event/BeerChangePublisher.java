@@ -0,0 +1,60 @@
+package one.digitalinnovation.beerstock.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fans {@link BeerChangeEvent}s out to every {@link BeerChangeListener} bean. Inside a transaction the event is
+ * held back until commit, so listeners never observe changes that are later rolled back. Listeners run on the
+ * publishing thread and must not throw; failures are logged and do not affect the caller.
+ */
+@Slf4j
+@Component
+public class BeerChangePublisher {
+
+    private final ObjectProvider<BeerChangeListener> listenerProvider;
+    private volatile List<BeerChangeListener> listeners;
+
+    public BeerChangePublisher(ObjectProvider<BeerChangeListener> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    public void publish(BeerChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    private void dispatch(BeerChangeEvent event) {
+        for (BeerChangeListener listener : listeners()) {
+            try {
+                listener.onBeerChange(event);
+            } catch (RuntimeException e) {
+                log.error("Beer change listener {} failed for {}", listener.getClass().getSimpleName(), event, e);
+            }
+        }
+    }
+
+    // Resolved lazily so listeners are free to depend on the services that publish to them.
+    private List<BeerChangeListener> listeners() {
+        List<BeerChangeListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider.orderedStream().collect(Collectors.toList());
+            listeners = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,118 @@
+package one.digitalinnovation.beerstock.event;
+
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base for in-memory views of the catalog. The view is filled from the repository once startup data loading is
+ * done and then follows committed {@link BeerChangeEvent}s. Events are dispatched after commit on the committing
+ * threads, so two changes to one beer can arrive in either order; each is applied only if its version is newer
+ * than what the view holds. Deleted ids are remembered for a while as tombstones, so a change delivered after the
+ * deletion, or a row the initial load read before it, cannot bring the beer back. Subclasses should run after other
+ * runners, e.g. with {@code @Order(Ordered.LOWEST_PRECEDENCE)}.
+ */
+@Slf4j
+public abstract class BeerProjection implements BeerChangeListener, ApplicationRunner {
+
+    private static final int STRIPES = 64;
+    private static final long TOMBSTONE_RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private final BeerRepository beerRepository;
+    private final Object[] stripes = new Object[STRIPES];
+    private final Map<Long, Tombstone> tombstones = new ConcurrentHashMap<>();
+    private volatile boolean loading;
+    private volatile long nextPrune;
+
+    protected BeerProjection(BeerRepository beerRepository) {
+        this.beerRepository = beerRepository;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    protected abstract void put(Beer beer);
+
+    protected abstract void remove(Long id);
+
+    /**
+     * The version of the beer the view holds, or {@code null} if it holds none.
+     */
+    protected abstract Long versionOf(Long id);
+
+    protected abstract int size();
+
+    @Override
+    public void onBeerChange(BeerChangeEvent event) {
+        apply(event.getBeer(), event.getVersion(), event.getType() == BeerChangeEvent.Type.DELETED);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        loading = true;
+        try {
+            for (Beer beer : beerRepository.findAll()) {
+                apply(beer, beer.getVersion() == null ? 0 : beer.getVersion(), false);
+            }
+        } finally {
+            loading = false;
+        }
+        log.info("{} loaded {} beers in {} ms", getClass().getSimpleName(), size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // Changes to one beer are applied under its stripe, so the version check and the write cannot interleave.
+    private void apply(Beer beer, long version, boolean deleted) {
+        Long id = beer.getId();
+        synchronized (stripeOf(id)) {
+            Tombstone tombstone = tombstones.get(id);
+            Long held = versionOf(id);
+            if ((tombstone != null && tombstone.version >= version) || (held != null && held >= version)) {
+                return;
+            }
+            if (deleted) {
+                tombstones.put(id, new Tombstone(version, System.currentTimeMillis() + TOMBSTONE_RETENTION_MILLIS));
+                remove(id);
+            } else {
+                put(beer);
+            }
+        }
+        if (deleted) {
+            pruneTombstones();
+        }
+    }
+
+    // Late events trail their commit by the time it takes to run listeners, far less than the retention. Tombstones
+    // are kept while the initial load runs, since the rows it read may predate any of them.
+    private void pruneTombstones() {
+        long now = System.currentTimeMillis();
+        if (loading || now < nextPrune) {
+            return;
+        }
+        nextPrune = now + TOMBSTONE_RETENTION_MILLIS;
+        tombstones.values().removeIf(tombstone -> tombstone.expiresAt <= now);
+    }
+
+    private Object stripeOf(Long id) {
+        int hash = Long.hashCode(id * 0x9E3779B97F4A7C15L);
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Tombstone {
+
+        private final long version;
+        private final long expiresAt;
+
+        private Tombstone(long version, long expiresAt) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -4,11 +4,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class BeerAlreadyRegisteredException extends Exception{
+public class BeerAlreadyRegisteredException extends DomainException {
 
 	private static final long serialVersionUID = 1L;
 
+	private final String beerName;
+
 	public BeerAlreadyRegisteredException(String beerName) {
-        super(String.format("Beer with name %s already registered in the system.", beerName));
+        this.beerName = beerName;
+    }
+
+    @Override
+    public void appendMessage(StringBuilder builder) {
+        builder.append("Beer with name ").append(beerName).append(" already registered in the system.");
     }
 }
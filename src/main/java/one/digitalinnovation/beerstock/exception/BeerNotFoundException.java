@@ -4,15 +4,30 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
-public class BeerNotFoundException extends Exception {
+public class BeerNotFoundException extends DomainException {
 
 	private static final long serialVersionUID = 1L;
 
+	private final String beerName;
+	private final Long id;
+
 	public BeerNotFoundException(String beerName) {
-        super(String.format("Beer with name %s not found in the system.", beerName));
+        this.beerName = beerName;
+        this.id = null;
     }
 
     public BeerNotFoundException(Long id) {
-        super(String.format("Beer with id %s not found in the system.", id));
+        this.beerName = null;
+        this.id = id;
+    }
+
+    @Override
+    public void appendMessage(StringBuilder builder) {
+        if (beerName != null) {
+            builder.append("Beer with name ").append(beerName);
+        } else {
+            builder.append("Beer with id ").append(id);
+        }
+        builder.append(" not found in the system.");
     }
 }
@@ -4,11 +4,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class BeerStockExceededException extends Exception {
+public class BeerStockExceededException extends DomainException {
 
 	private static final long serialVersionUID = 1L;
 
+	private final Long id;
+	private final int quantityToIncrement;
+
 	public BeerStockExceededException(Long id, int quantityToIncrement) {
-        super(String.format("Beer with ID %s has quantity greater than stock capacity. Quantity to increment %s", id, quantityToIncrement));
+        this.id = id;
+        this.quantityToIncrement = quantityToIncrement;
+    }
+
+    @Override
+    public void appendMessage(StringBuilder builder) {
+        builder.append("Beer with ID ").append(id)
+                .append(" has quantity greater than stock capacity. Quantity to increment ").append(quantityToIncrement);
     }
 }
@@ -4,11 +4,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
-public class BeerStockLessThanZeroException extends Exception {
+public class BeerStockLessThanZeroException extends DomainException {
 
 	private static final long serialVersionUID = 1L;
 
+	private final Long id;
+	private final int quantityToDecrement;
+
 	public BeerStockLessThanZeroException(Long id, int quantityToDecrement) {
-		super(String.format("Beer with ID %s has quantity less than zero. Quantity to decrement %s", id, quantityToDecrement));
+		this.id = id;
+		this.quantityToDecrement = quantityToDecrement;
+	}
+
+	@Override
+	public void appendMessage(StringBuilder builder) {
+		builder.append("Beer with ID ").append(id)
+				.append(" has quantity less than zero. Quantity to decrement ").append(quantityToDecrement);
 	}
 }
@@ -0,0 +1,28 @@
+package one.digitalinnovation.beerstock.exception;
+
+/**
+ * Base of the expected business failures, such as a missing beer or a sold-out stock. They are answered with a
+ * status code and never need a stack trace, so none is captured, and the message is only built when it is read.
+ */
+public abstract class DomainException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	private transient String message;
+
+	protected DomainException() {
+		super(null, null, false, false);
+	}
+
+	public abstract void appendMessage(StringBuilder builder);
+
+	@Override
+	public String getMessage() {
+		if (message == null) {
+			StringBuilder builder = new StringBuilder(96);
+			appendMessage(builder);
+			message = builder.toString();
+		}
+		return message;
+	}
+}
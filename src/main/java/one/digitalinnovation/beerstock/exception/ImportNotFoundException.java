@@ -0,0 +1,14 @@
+package one.digitalinnovation.beerstock.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ImportNotFoundException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public ImportNotFoundException(String id) {
+        super(String.format("Import with id %s not found in the system.", id));
+    }
+}
@@ -0,0 +1,14 @@
+package one.digitalinnovation.beerstock.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ImportNotResumableException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public ImportNotResumableException(String id, String state) {
+        super(String.format("Import with id %s is %s and cannot be resumed.", id, state));
+    }
+}
@@ -0,0 +1,14 @@
+package one.digitalinnovation.beerstock.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class ImportTooLargeException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public ImportTooLargeException(long maxBytes) {
+        super(String.format("Import files may not be larger than %d bytes.", maxBytes));
+    }
+}
@@ -0,0 +1,14 @@
+package one.digitalinnovation.beerstock.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ReportNotFoundException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public ReportNotFoundException(String id) {
+        super(String.format("Report with id %s not found in the system.", id));
+    }
+}
@@ -0,0 +1,14 @@
+package one.digitalinnovation.beerstock.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ReportNotReadyException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	public ReportNotReadyException(String id, String state) {
+        super(String.format("Report with id %s is %s and cannot be downloaded.", id, state));
+    }
+}
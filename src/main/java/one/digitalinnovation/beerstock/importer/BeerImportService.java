@@ -0,0 +1,408 @@
+package one.digitalinnovation.beerstock.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.ImportProperties;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.ImportStatusDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.event.BeerChangePublisher;
+import one.digitalinnovation.beerstock.exception.ImportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ImportNotResumableException;
+import one.digitalinnovation.beerstock.exception.ImportTooLargeException;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import one.digitalinnovation.beerstock.sharding.ShardSet;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Imports beers from CSV files with a {@code name,brand,max,quantity,type} header (any column order, extra columns
+ * ignored). The upload is spooled to disk and read back one record at a time, so file size does not affect memory.
+ * Each chunk of rows is validated in parallel against the {@link BeerDTO} constraints, checked for names that are
+ * already registered with a single query, and inserted in its own transaction; a checkpoint then records the last
+ * row handled and the counts so far. Resuming a failed import skips to that row, and rows of a chunk that did commit
+ * before the failure are reported as already registered rather than inserted twice.
+ */
+@Slf4j
+@Service
+public class BeerImportService {
+
+    private static final String[] COLUMNS = {"name", "brand", "max", "quantity", "type"};
+
+    private final BeerRepository beerRepository;
+    private final BeerChangePublisher beerChangePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardSet> shardSet;
+    private final Validator validator;
+    private final ImportProperties properties;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "beer-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ForkJoinPool validationPool;
+
+    public BeerImportService(BeerRepository beerRepository, BeerChangePublisher beerChangePublisher,
+                             TransactionTemplate transactionTemplate, ObjectProvider<ShardSet> shardSet,
+                             Validator validator, ImportProperties properties) {
+        this.beerRepository = beerRepository;
+        this.beerChangePublisher = beerChangePublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSet = shardSet;
+        this.validator = validator;
+        this.properties = properties;
+        this.validationPool = new ForkJoinPool(Math.max(1, properties.getValidationParallelism()));
+    }
+
+    public ImportStatusDTO start(InputStream csv) throws IOException, ImportTooLargeException {
+        String id = UUID.randomUUID().toString();
+        Files.createDirectories(properties.getDirectory());
+        Path spool = spoolOf(id);
+        try {
+            spool(csv, spool);
+        } catch (Exception e) {
+            // A rejected or interrupted upload can never be resumed, so its partial spool would only take up disk.
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+        return submit(new ImportJob(id, 0, 0, 0, properties.getMaxReportedErrors()), 0);
+    }
+
+    public ImportStatusDTO status(String id) throws ImportNotFoundException {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ImportNotFoundException(id);
+        }
+        return job.toDTO();
+    }
+
+    /** Resumes a failed import, or one left behind by a previous run of the application, from its checkpoint. */
+    public synchronized ImportStatusDTO resume(String id) throws ImportNotFoundException, ImportNotResumableException, IOException {
+        ImportJob job = jobs.get(id);
+        if (job != null && job.getState() != ImportJob.State.FAILED) {
+            throw new ImportNotResumableException(id, job.getState().name());
+        }
+        if (!isValidId(id) || !Files.exists(spoolOf(id))) {
+            throw new ImportNotFoundException(id);
+        }
+        long[] checkpoint = readCheckpoint(id);
+        return submit(new ImportJob(id, checkpoint[0], checkpoint[1], checkpoint[2], properties.getMaxReportedErrors()),
+                checkpoint[0]);
+    }
+
+    @Scheduled(fixedDelayString = "${beerstock.import.eviction-interval-millis:60000}")
+    public void evictFinished() {
+        evictFinished(Instant.now());
+    }
+
+    // The conditional removal of the values view leaves a job alone if a resume replaced it in the meantime.
+    void evictFinished(Instant now) {
+        Instant cutoff = now.minusMillis(properties.getRetentionMillis());
+        jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    private ImportStatusDTO submit(ImportJob job, long resumeAfterRow) {
+        jobs.put(job.getId(), job);
+        runner.execute(() -> run(job, resumeAfterRow));
+        return job.toDTO();
+    }
+
+    // Counts while copying, since the body is streamed and its declared length cannot be trusted.
+    private void spool(InputStream csv, Path spool) throws IOException, ImportTooLargeException {
+        long maxBytes = properties.getMaxBytes();
+        long written = 0;
+        byte[] buffer = new byte[8192];
+        try (OutputStream out = Files.newOutputStream(spool, StandardOpenOption.CREATE_NEW)) {
+            int read;
+            while ((read = csv.read(buffer)) != -1) {
+                written += read;
+                if (written > maxBytes) {
+                    throw new ImportTooLargeException(maxBytes);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private void run(ImportJob job, long resumeAfterRow) {
+        job.start();
+        Path spool = spoolOf(job.getId());
+        try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+            CsvReader csv = new CsvReader(reader);
+            int[] columns = columnsOf(csv.next());
+            List<Row> chunk = new ArrayList<>(properties.getChunkSize());
+            long rowNumber = 0;
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (record.size() == 1 && record.get(0).isEmpty()) {
+                    continue;
+                }
+                rowNumber++;
+                if (rowNumber <= resumeAfterRow) {
+                    continue;
+                }
+                chunk.add(new Row(rowNumber, record));
+                if (chunk.size() == properties.getChunkSize()) {
+                    importChunk(job, chunk, columns);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, columns);
+            }
+            // Cleaned up before the state flips, so a client seeing COMPLETED never finds a leftover spool file.
+            Files.deleteIfExists(checkpointOf(job.getId()));
+            Files.deleteIfExists(spool);
+            job.complete();
+            log.info("Import {} completed", job.getId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted; resume to continue from the last checkpoint");
+        } catch (Exception e) {
+            log.error("Import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void importChunk(ImportJob job, List<Row> chunk, int[] columns) throws Exception {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException();
+        }
+        BeerDTO[] beers = new BeerDTO[chunk.size()];
+        String[] problems = new String[chunk.size()];
+        try {
+            validationPool.submit(() -> IntStream.range(0, chunk.size()).parallel()
+                    .forEach(i -> validate(chunk.get(i), columns, beers, problems, i)))
+                    .get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        Map<String, Integer> accepted = new LinkedHashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (problems[i] == null && accepted.putIfAbsent(beers[i].getName(), i) != null) {
+                problems[i] = String.format("name %s already appears in row %d", beers[i].getName(),
+                        chunk.get(accepted.get(beers[i].getName())).number);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            for (String name : beerRepository.findExistingNames(accepted.keySet())) {
+                int i = accepted.remove(name);
+                problems[i] = String.format("name %s is already registered", name);
+            }
+        }
+
+        int imported = 0;
+        for (List<Integer> group : byShard(accepted.values(), beers)) {
+            imported += insert(job, group, chunk, beers);
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            if (problems[i] != null) {
+                job.reject(chunk.get(i).number, problems[i]);
+            }
+        }
+        job.processed(chunk.size(), imported);
+        writeCheckpoint(job, chunk.get(chunk.size() - 1).number);
+    }
+
+    private void validate(Row row, int[] columns, BeerDTO[] beers, String[] problems, int i) {
+        try {
+            BeerDTO beer = BeerDTO.builder()
+                    .name(field(row, columns[0]))
+                    .brand(field(row, columns[1]))
+                    .max(parseInteger("max", field(row, columns[2])))
+                    .quantity(parseInteger("quantity", field(row, columns[3])))
+                    .type(parseType(field(row, columns[4])))
+                    .build();
+            Set<ConstraintViolation<BeerDTO>> violations = validator.validate(beer);
+            if (violations.isEmpty()) {
+                beers[i] = beer;
+            } else {
+                problems[i] = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+            }
+        } catch (IllegalArgumentException e) {
+            problems[i] = e.getMessage();
+        }
+    }
+
+    // Rows in one transaction must live on the same shard; without sharding every row falls into one group.
+    private List<List<Integer>> byShard(Iterable<Integer> rows, BeerDTO[] beers) {
+        ShardSet shards = shardSet.getIfAvailable();
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (Integer i : rows) {
+            int shard = shards == null ? 0 : shards.getDirectory().placementFor(beers[i].getName());
+            groups.computeIfAbsent(shard, key -> new ArrayList<>()).add(i);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private int insert(ImportJob job, List<Integer> group, List<Row> chunk, BeerDTO[] beers) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> group.forEach(i -> save(beers[i])));
+            return group.size();
+        } catch (DataIntegrityViolationException e) {
+            // Another writer registered one of the names after the existence check; retry the group row by row.
+            int imported = 0;
+            for (Integer i : group) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> save(beers[i]));
+                    imported++;
+                } catch (DataIntegrityViolationException rowFailure) {
+                    job.reject(chunk.get(i).number, String.format("name %s is already registered", beers[i].getName()));
+                }
+            }
+            return imported;
+        }
+    }
+
+    private void save(BeerDTO beerDTO) {
+        Beer saved = beerRepository.save(beerMapper.toModel(beerDTO));
+        beerChangePublisher.publish(BeerChangeEvent.created(saved));
+    }
+
+    private static int[] columnsOf(List<String> header) throws IOException {
+        if (header == null) {
+            throw new IOException("The file is empty");
+        }
+        List<String> names = header.stream()
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        int[] columns = new int[COLUMNS.length];
+        for (int c = 0; c < COLUMNS.length; c++) {
+            columns[c] = names.indexOf(COLUMNS[c]);
+            if (columns[c] < 0) {
+                throw new IOException("Header must contain the columns " + String.join(",", COLUMNS) + " but was " + header);
+            }
+        }
+        return columns;
+    }
+
+    private static String field(Row row, int column) {
+        if (column >= row.fields.size()) {
+            return null;
+        }
+        String value = row.fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer parseInteger(String column, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("%s must be a whole number but was %s", column, value));
+        }
+    }
+
+    private static BeerType parseType(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return BeerType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("type must be one of %s but was %s",
+                    Arrays.toString(BeerType.values()), value));
+        }
+    }
+
+    // A checkpoint holds the last row handled followed by the imported and rejected counts up to it; files written
+    // before the counts were added hold the row alone, and their counts restart at zero.
+    private long[] readCheckpoint(String id) throws IOException {
+        Path checkpoint = checkpointOf(id);
+        long[] values = new long[3];
+        if (Files.exists(checkpoint)) {
+            String[] fields = new String(Files.readAllBytes(checkpoint), StandardCharsets.US_ASCII).trim().split("\\s+");
+            for (int i = 0; i < Math.min(fields.length, values.length); i++) {
+                values[i] = Long.parseLong(fields[i]);
+            }
+        }
+        return values;
+    }
+
+    private void writeCheckpoint(ImportJob job, long row) throws IOException {
+        Path checkpoint = checkpointOf(job.getId());
+        Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        String content = row + " " + job.getImported() + " " + job.getRejected();
+        Files.write(temporary, content.getBytes(StandardCharsets.US_ASCII));
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path spoolOf(String id) {
+        return properties.getDirectory().resolve(id + ".csv");
+    }
+
+    private Path checkpointOf(String id) {
+        return properties.getDirectory().resolve(id + ".checkpoint");
+    }
+
+    private static boolean isValidId(String id) {
+        try {
+            return UUID.fromString(id).toString().equals(id);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static final class Row {
+
+        final long number;
+        final List<String> fields;
+
+        Row(long number, List<String> fields) {
+            this.number = number;
+            this.fields = fields;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package one.digitalinnovation.beerstock.importer;
+
+import one.digitalinnovation.beerstock.dto.ImportStatusDTO;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import. Updated by the import thread and read by status requests at any time, so every field
+ * is either volatile, atomic or guarded by the error list's lock. A resumed job starts from the counters saved with its
+ * checkpoint; the reported errors only cover rows handled since the resume.
+ */
+public class ImportJob {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final int maxReportedErrors;
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failure;
+
+    public ImportJob(String id, long resumedAfterRow, long importedBefore, long rejectedBefore, int maxReportedErrors) {
+        this.id = id;
+        this.maxReportedErrors = maxReportedErrors;
+        this.rowsProcessed.set(resumedAfterRow);
+        this.imported.set(importedBefore);
+        this.rejected.set(rejectedBefore);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    long getImported() {
+        return imported.get();
+    }
+
+    long getRejected() {
+        return rejected.get();
+    }
+
+    boolean finishedBefore(Instant instant) {
+        Instant finished = finishedAt;
+        return finished != null && finished.isBefore(instant);
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failure = reason;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    void processed(int rows, int importedRows) {
+        rowsProcessed.addAndGet(rows);
+        imported.addAndGet(importedRows);
+    }
+
+    void reject(long row, String reason) {
+        rejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add("row " + row + ": " + reason);
+            }
+        }
+    }
+
+    public ImportStatusDTO toDTO() {
+        List<String> reportedErrors;
+        synchronized (errors) {
+            reportedErrors = new ArrayList<>(errors);
+        }
+        return ImportStatusDTO.builder()
+                .id(id)
+                .state(state.name())
+                .rowsProcessed(rowsProcessed.get())
+                .imported(imported.get())
+                .rejected(rejected.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .failure(failure)
+                .errors(reportedErrors)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package one.digitalinnovation.beerstock.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Top-K keys of a stream on top of a {@link CountMinSketch}. Only key membership is kept for the top-K; counts
+ * always come from the sketch. Recording a key that is cold or already a member costs the sketch update plus a
+ * volatile read and a hash lookup; the synchronized admission path only runs when a new key overtakes the
+ * current K-th hottest.
+ */
+public class HeavyHitters {
+
+    private final CountMinSketch sketch;
+    private final int capacity;
+    private final Set<String> top = ConcurrentHashMap.newKeySet();
+    private volatile long admissionThreshold;
+
+    public HeavyHitters(int depth, int width, int capacity) {
+        this.sketch = new CountMinSketch(depth, width);
+        this.capacity = capacity;
+    }
+
+    public void record(String key) {
+        long estimate = sketch.add(key);
+        if (estimate > admissionThreshold && !top.contains(key)) {
+            admit(key);
+        }
+    }
+
+    private synchronized void admit(String key) {
+        if (!top.add(key) || top.size() <= capacity) {
+            return;
+        }
+        String coldest = null;
+        long coldestCount = Long.MAX_VALUE;
+        for (String member : top) {
+            long count = sketch.estimate(member);
+            if (count < coldestCount) {
+                coldest = member;
+                coldestCount = count;
+            }
+        }
+        top.remove(coldest);
+        admissionThreshold = coldestCount;
+    }
+
+    public synchronized void decay() {
+        sketch.halve();
+        admissionThreshold >>>= 1;
+    }
+
+    public Map<String, Long> snapshot() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        for (String member : top) {
+            entries.add(Map.entry(member, sketch.estimate(member)));
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        Map<String, Long> ordered = new LinkedHashMap<>();
+        entries.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return ordered;
+    }
+
+    public long estimate(String key) {
+        return sketch.estimate(key);
+    }
+}
@@ -0,0 +1,39 @@
+package one.digitalinnovation.beerstock.monitoring;
+
+import one.digitalinnovation.beerstock.config.HotKeyProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HotKeyTracker {
+
+    private final HeavyHitters lookups;
+    private final HeavyHitters stockMutations;
+
+    public HotKeyTracker(HotKeyProperties properties) {
+        this.lookups = new HeavyHitters(properties.getDepth(), properties.getWidth(), properties.getTopK());
+        this.stockMutations = new HeavyHitters(properties.getDepth(), properties.getWidth(), properties.getTopK());
+    }
+
+    public void recordLookup(String name) {
+        lookups.record(name);
+    }
+
+    public void recordStockMutation(Long id) {
+        stockMutations.record(String.valueOf(id));
+    }
+
+    @Scheduled(fixedRateString = "${beerstock.hot-keys.decay-interval-millis:60000}")
+    public void decay() {
+        lookups.decay();
+        stockMutations.decay();
+    }
+
+    public HeavyHitters getLookups() {
+        return lookups;
+    }
+
+    public HeavyHitters getStockMutations() {
+        return stockMutations;
+    }
+}
@@ -0,0 +1,35 @@
+package one.digitalinnovation.beerstock.monitoring;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "hotkeys")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        Map<String, Object> hotKeys = new LinkedHashMap<>();
+        hotKeys.put("lookups", hotKeyTracker.getLookups().snapshot());
+        hotKeys.put("stockMutations", hotKeyTracker.getStockMutations().snapshot());
+        return hotKeys;
+    }
+
+    @ReadOperation
+    public Map<String, Long> estimate(@Selector String name) {
+        Map<String, Long> estimate = new LinkedHashMap<>();
+        estimate.put("lookups", hotKeyTracker.getLookups().estimate(name));
+        estimate.put("stockMutations", hotKeyTracker.getStockMutations().estimate(name));
+        return estimate;
+    }
+}
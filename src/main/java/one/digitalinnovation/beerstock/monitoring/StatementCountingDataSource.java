@@ -0,0 +1,88 @@
+package one.digitalinnovation.beerstock.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands out connections whose statements report every {@code execute*} call to {@link SqlStatementStats} and to a
+ * global timer. Everything else is passed straight through to the target's objects.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final Timer statementTimer;
+
+    public StatementCountingDataSource(DataSource target, Timer statementTimer) {
+        super(target);
+        this.statementTimer = statementTimer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof CallableStatement) {
+                        return wrap((Statement) result, CallableStatement.class);
+                    }
+                    if (result instanceof PreparedStatement) {
+                        return wrap((Statement) result, PreparedStatement.class);
+                    }
+                    if (result instanceof Statement) {
+                        return wrap((Statement) result, Statement.class);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, Class<? extends Statement> type) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                SqlStatementStats.record(elapsed);
+                statementTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package one.digitalinnovation.beerstock.persistence;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+
+/**
+ * Binary dump of the {@code Beer} table. The header carries the {@link BeerType} names so rows can store the
+ * type as a one-byte index that survives reordering of the enum; every row is prefixed with a marker byte and
+ * the stream ends with an end marker, so snapshots can be written from a cursor without knowing the row
+ * count up front.
+ */
+public final class BeerSnapshot {
+
+    private static final int MAGIC = 0x42454552;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte ROW = 1;
+    private static final byte END_OF_ROWS = 0;
+
+    private BeerSnapshot() {
+    }
+
+    public static Writer create(Path path) throws IOException {
+        return new Writer(path);
+    }
+
+    public static long read(Path path, Consumer<Beer> consumer) throws IOException {
+        long rows = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a beer snapshot: " + path);
+            }
+            BeerType[] types = new BeerType[in.readUnsignedByte()];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = BeerType.valueOf(in.readUTF());
+            }
+            while (in.readByte() == ROW) {
+                consumer.accept(new Beer(in.readLong(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt(),
+                        types[in.readUnsignedByte()]));
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    public static final class Writer implements Closeable {
+
+        private final Path path;
+        private final Path temporary;
+        private final DataOutputStream out;
+        private long rows;
+
+        private Writer(Path path) throws IOException {
+            this.path = path;
+            this.temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            BeerType[] types = BeerType.values();
+            out.writeByte(types.length);
+            for (BeerType type : types) {
+                out.writeUTF(type.name());
+            }
+        }
+
+        public void append(Beer beer) throws IOException {
+            out.writeByte(ROW);
+            out.writeLong(beer.getId());
+            out.writeUTF(beer.getName());
+            out.writeUTF(beer.getBrand());
+            out.writeInt(beer.getMax());
+            out.writeInt(beer.getQuantity());
+            out.writeByte(beer.getType().ordinal());
+            rows++;
+        }
+
+        /**
+         * Terminates the snapshot and atomically replaces {@code path}; without a commit, closing discards it.
+         */
+        public long commit() throws IOException {
+            out.writeByte(END_OF_ROWS);
+            out.close();
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
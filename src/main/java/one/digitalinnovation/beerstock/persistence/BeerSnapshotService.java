@@ -0,0 +1,119 @@
+package one.digitalinnovation.beerstock.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.SnapshotProperties;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerSnapshotService {
+
+    private static final String INSERT_BEER = "INSERT INTO beer (id, name, brand, max, quantity, type) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_UNIQUE_CONSTRAINTS = "SELECT constraint_name, column_list "
+            + "FROM information_schema.constraints WHERE table_name = 'BEER' AND constraint_type = 'UNIQUE'";
+    private static final String SELECT_BEERS = "SELECT id, name, brand, max, quantity, type FROM beer ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SnapshotProperties properties;
+
+    public long write(Path path) throws IOException {
+        long start = System.nanoTime();
+        long rows;
+        try (BeerSnapshot.Writer writer = BeerSnapshot.create(path)) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(SELECT_BEERS, resultSet -> {
+                try {
+                    writer.append(new Beer(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                            resultSet.getInt(4), resultSet.getInt(5), BeerType.valueOf(resultSet.getString(6))));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            rows = writer.commit();
+        }
+        log.info("Wrote {} beers to snapshot {} in {} ms", rows, path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return rows;
+    }
+
+    /**
+     * Bulk-loads a snapshot into an empty table. Unique constraints are dropped for the duration of the load
+     * and rebuilt once at the end, which is considerably cheaper than maintaining the name index row by row.
+     * If the load fails, including when the snapshot holds duplicate names, the table is emptied again and the
+     * constraints are restored before the failure is rethrown, so a retry starts from the same state.
+     */
+    public long load(Path path) throws IOException {
+        long start = System.nanoTime();
+        List<Map<String, Object>> uniqueConstraints = jdbcTemplate.queryForList(SELECT_UNIQUE_CONSTRAINTS);
+        uniqueConstraints.forEach(constraint -> jdbcTemplate.execute("ALTER TABLE beer DROP CONSTRAINT "
+                + constraint.get("CONSTRAINT_NAME")));
+        boolean loaded = false;
+        long rows;
+        try {
+            List<Object[]> batch = new ArrayList<>(properties.getBatchSize());
+            long[] maxId = {0};
+            rows = BeerSnapshot.read(path, beer -> {
+                batch.add(new Object[]{beer.getId(), beer.getName(), beer.getBrand(), beer.getMax(), beer.getQuantity(),
+                        beer.getType().name()});
+                maxId[0] = Math.max(maxId[0], beer.getId());
+                if (batch.size() == properties.getBatchSize()) {
+                    insert(batch);
+                }
+            });
+            insert(batch);
+            restoreConstraints(uniqueConstraints);
+            jdbcTemplate.execute("ALTER TABLE beer ALTER COLUMN id RESTART WITH " + (maxId[0] + 1));
+            loaded = true;
+        } finally {
+            if (!loaded) {
+                log.warn("Loading snapshot {} failed, emptying the beer table", path);
+                jdbcTemplate.execute("TRUNCATE TABLE beer");
+                restoreConstraints(uniqueConstraints);
+            }
+        }
+        log.info("Loaded {} beers from snapshot {} in {} ms", rows, path, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return rows;
+    }
+
+    public boolean isTableEmpty() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM beer LIMIT 1)", Integer.class) == 0;
+    }
+
+    public boolean snapshotExists() {
+        return properties.getPath() != null && Files.isRegularFile(properties.getPath());
+    }
+
+    private void restoreConstraints(List<Map<String, Object>> uniqueConstraints) {
+        List<String> present = jdbcTemplate.queryForList(SELECT_UNIQUE_CONSTRAINTS).stream()
+                .map(constraint -> (String) constraint.get("CONSTRAINT_NAME"))
+                .collect(Collectors.toList());
+        uniqueConstraints.stream()
+                .filter(constraint -> !present.contains(constraint.get("CONSTRAINT_NAME")))
+                .forEach(constraint -> jdbcTemplate.execute("ALTER TABLE beer ADD CONSTRAINT "
+                        + constraint.get("CONSTRAINT_NAME") + " UNIQUE (" + constraint.get("COLUMN_LIST") + ")"));
+    }
+
+    private void insert(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_BEER, batch));
+        batch.clear();
+    }
+}
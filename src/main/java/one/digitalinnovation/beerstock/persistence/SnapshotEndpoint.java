@@ -0,0 +1,32 @@
+package one.digitalinnovation.beerstock.persistence;
+
+import lombok.AllArgsConstructor;
+import one.digitalinnovation.beerstock.config.SnapshotProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "snapshot")
+@ConditionalOnProperty("beerstock.snapshot.path")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class SnapshotEndpoint {
+
+    private final BeerSnapshotService snapshotService;
+    private final SnapshotProperties properties;
+
+    @WriteOperation
+    public Map<String, Object> write() throws IOException {
+        long rows = snapshotService.write(properties.getPath());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("path", properties.getPath().toAbsolutePath().toString());
+        result.put("rows", rows);
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package one.digitalinnovation.beerstock.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.SnapshotProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds an empty {@code Beer} table from the configured snapshot. Runs ahead of any other runner (including
+ * the warm-up) and, like them, before readiness is reported.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty("beerstock.snapshot.load-on-startup")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class SnapshotLoader implements ApplicationRunner {
+
+    private final BeerSnapshotService snapshotService;
+    private final SnapshotProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!snapshotService.snapshotExists()) {
+            log.info("No beer snapshot found at {}, starting with the stored catalog", properties.getPath());
+        } else if (!snapshotService.isTableEmpty()) {
+            log.info("Beer table already populated, ignoring snapshot {}", properties.getPath());
+        } else {
+            snapshotService.load(properties.getPath());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package one.digitalinnovation.beerstock.replication;
+
+import one.digitalinnovation.beerstock.web.ClientKeyResolver;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+public class ClientContextFilter extends OncePerRequestFilter {
+
+    private final ClientKeyResolver clientKeyResolver;
+
+    public ClientContextFilter(ClientKeyResolver clientKeyResolver) {
+        this.clientKeyResolver = clientKeyResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ClientWriteTracker.bind(clientKeyResolver.resolve(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ClientWriteTracker.clear();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package one.digitalinnovation.beerstock.replication;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the sequence of each client's last write for a stickiness window, so that client's reads are only
+ * served by replicas that have caught up with it. The client of the current request is bound by
+ * {@link ClientContextFilter}.
+ */
+public class ClientWriteTracker {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final Map<String, Write> lastWrites = new ConcurrentHashMap<>();
+    private final long stickinessMillis;
+    private final LongSupplier clock;
+
+    public ClientWriteTracker(long stickinessMillis, LongSupplier clock) {
+        this.stickinessMillis = stickinessMillis;
+        this.clock = clock;
+    }
+
+    public static void bind(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+
+    public static void clear() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public void recordWrite(long sequence) {
+        String client = CURRENT_CLIENT.get();
+        if (client != null) {
+            lastWrites.put(client, new Write(sequence, clock.getAsLong()));
+        }
+    }
+
+    public long requiredSequence() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return 0;
+        }
+        Write write = lastWrites.get(client);
+        if (write == null) {
+            return 0;
+        }
+        if (clock.getAsLong() - write.at > stickinessMillis) {
+            lastWrites.remove(client, write);
+            return 0;
+        }
+        return write.sequence;
+    }
+
+    public void expire() {
+        long cutoff = clock.getAsLong() - stickinessMillis;
+        lastWrites.values().removeIf(write -> write.at < cutoff);
+    }
+
+    private static final class Write {
+
+        private final long sequence;
+        private final long at;
+
+        private Write(long sequence, long at) {
+            this.sequence = sequence;
+            this.at = at;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package one.digitalinnovation.beerstock.replication;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaMaintenance {
+
+    private final ReplicaSet replicaSet;
+    private final ClientWriteTracker clientWriteTracker;
+
+    public ReplicaMaintenance(ReplicaSet replicaSet, ClientWriteTracker clientWriteTracker) {
+        this.replicaSet = replicaSet;
+        this.clientWriteTracker = clientWriteTracker;
+    }
+
+    // The first run also performs the initial copy, so replicas only take reads once they are in sync.
+    @Scheduled(fixedDelayString = "${beerstock.replicas.health-check-interval-millis:2000}")
+    public void run() {
+        replicaSet.checkHealth();
+        clientWriteTracker.expire();
+    }
+}
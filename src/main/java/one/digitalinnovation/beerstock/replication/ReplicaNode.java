@@ -0,0 +1,150 @@
+package one.digitalinnovation.beerstock.replication;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * One read replica. Changes are applied by a single thread in sequence order, so {@link #getAppliedSequence()} is
+ * a reliable watermark for read-your-writes checks. Each change re-reads the row from the primary rather than
+ * trusting the event payload, which keeps the replica correct when commits of concurrent transactions are
+ * reported out of order.
+ */
+@Slf4j
+public class ReplicaNode {
+
+    static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS beer (" +
+            "id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE, brand VARCHAR(255) NOT NULL, " +
+            "max INT NOT NULL, quantity INT NOT NULL, type VARCHAR(255) NOT NULL, version BIGINT DEFAULT 0 NOT NULL)";
+    private static final String SELECT_ROW = "SELECT id, name, brand, max, quantity, type, version FROM beer WHERE id = ?";
+    private static final String SELECT_ALL = "SELECT id, name, brand, max, quantity, type, version FROM beer";
+    private static final String MERGE_ROW = "MERGE INTO beer (id, name, brand, max, quantity, type, version) KEY (id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_ROW = "DELETE FROM beer WHERE id = ?";
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate replicaTransaction;
+    private final ExecutorService applier;
+    private final Queue<Long> pendingSince = new ConcurrentLinkedQueue<>();
+
+    private volatile long appliedSequence;
+    private volatile boolean healthy;
+    private volatile boolean needsResync = true;
+
+    public ReplicaNode(String name, DataSource dataSource, DataSource primaryDataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(dataSource);
+        this.replicaTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.applier = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-applier-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void enqueue(long sequence, Long beerId, long committedAt) {
+        pendingSince.add(committedAt);
+        applier.execute(() -> {
+            try {
+                if (healthy && !needsResync) {
+                    apply(beerId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Replica {} failed to apply change to beer {}, scheduling resync", name, beerId, e);
+                healthy = false;
+                needsResync = true;
+            } finally {
+                appliedSequence = sequence;
+                pendingSince.poll();
+            }
+        });
+    }
+
+    // Runs on the applier thread so the copy is ordered with respect to incremental changes.
+    public void checkHealth(long currentSequence) {
+        applier.execute(() -> {
+            try {
+                replica.queryForObject("SELECT 1", Integer.class);
+                if (needsResync) {
+                    resync();
+                    appliedSequence = Math.max(appliedSequence, currentSequence);
+                    needsResync = false;
+                    log.info("Replica {} resynchronised from primary", name);
+                }
+                healthy = true;
+            } catch (RuntimeException e) {
+                if (healthy) {
+                    log.warn("Replica {} failed its health check", name, e);
+                }
+                healthy = false;
+                needsResync = true;
+            }
+        });
+    }
+
+    private void apply(Long beerId) {
+        Map<String, Object> row = primary.queryForList(SELECT_ROW, beerId).stream().findFirst().orElse(null);
+        if (row == null) {
+            replica.update(DELETE_ROW, beerId);
+        } else {
+            replica.update(MERGE_ROW, row.get("ID"), row.get("NAME"), row.get("BRAND"), row.get("MAX"),
+                    row.get("QUANTITY"), row.get("TYPE"), row.get("VERSION"));
+        }
+    }
+
+    private void resync() {
+        replica.execute(CREATE_TABLE);
+        replicaTransaction.executeWithoutResult(status -> {
+            replica.update("DELETE FROM beer");
+            primary.query(SELECT_ALL, rs -> {
+                replica.update(MERGE_ROW, rs.getLong(1), rs.getString(2), rs.getString(3), rs.getInt(4),
+                        rs.getInt(5), rs.getString(6), rs.getLong(7));
+            });
+        });
+    }
+
+    public long getStalenessMillis(long now) {
+        Long oldest = pendingSince.peek();
+        return oldest == null ? 0 : Math.max(0, now - oldest);
+    }
+
+    public boolean isAvailable() {
+        return healthy && !needsResync;
+    }
+
+    public long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public void shutdown() {
+        applier.shutdownNow();
+        if (dataSource instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) dataSource).close();
+            } catch (Exception e) {
+                log.warn("Failed to close replica {}", name, e);
+            }
+        }
+    }
+}
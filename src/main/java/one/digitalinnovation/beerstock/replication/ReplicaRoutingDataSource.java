@@ -0,0 +1,31 @@
+package one.digitalinnovation.beerstock.replication;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to an eligible replica and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the read-only flag is only bound to
+ * the thread after the transaction manager has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicaSet;
+    private final ClientWriteTracker clientWriteTracker;
+
+    public ReplicaRoutingDataSource(ReplicaSet replicaSet, ClientWriteTracker clientWriteTracker) {
+        this.replicaSet = replicaSet;
+        this.clientWriteTracker = clientWriteTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        ReplicaNode replica = replicaSet.select(clientWriteTracker.requiredSequence());
+        return replica == null ? PRIMARY : replica.getName();
+    }
+}
@@ -0,0 +1,85 @@
+package one.digitalinnovation.beerstock.replication;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Replication state shared by the routing data source and the change listener. Every committed change gets a
+ * sequence number; a replica may serve a read only while it is healthy, within the staleness bound and has applied
+ * at least the sequence the caller needs to see.
+ */
+public class ReplicaSet {
+
+    private final DataSource primary;
+    private final List<ReplicaNode> nodes;
+    private final long maxStalenessMillis;
+    private final LongSupplier clock;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private long sequence;
+
+    public ReplicaSet(DataSource primary, List<ReplicaNode> nodes, long maxStalenessMillis, LongSupplier clock) {
+        this.primary = primary;
+        this.nodes = nodes;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.clock = clock;
+    }
+
+    public synchronized long replicate(Long beerId) {
+        long assigned = ++sequence;
+        long now = clock.getAsLong();
+        for (ReplicaNode node : nodes) {
+            node.enqueue(assigned, beerId, now);
+        }
+        return assigned;
+    }
+
+    public synchronized void checkHealth() {
+        for (ReplicaNode node : nodes) {
+            node.checkHealth(sequence);
+        }
+    }
+
+    /**
+     * Picks a replica able to serve a read that must observe {@code requiredSequence}, round-robin among the
+     * eligible ones, or {@code null} when the read has to go to the primary.
+     */
+    public ReplicaNode select(long requiredSequence) {
+        int size = nodes.size();
+        if (size == 0) {
+            return null;
+        }
+        long now = clock.getAsLong();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode node = nodes.get((start + i) % size);
+            if (node.isAvailable()
+                    && node.getAppliedSequence() >= requiredSequence
+                    && node.getStalenessMillis(now) <= maxStalenessMillis) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<ReplicaNode> getNodes() {
+        return nodes;
+    }
+
+    public void shutdown() {
+        nodes.forEach(ReplicaNode::shutdown);
+        if (primary instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) primary).close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to close primary data source", e);
+            }
+        }
+    }
+}
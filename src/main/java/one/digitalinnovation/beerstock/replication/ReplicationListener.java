@@ -0,0 +1,21 @@
+package one.digitalinnovation.beerstock.replication;
+
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.event.BeerChangeListener;
+
+public class ReplicationListener implements BeerChangeListener {
+
+    private final ReplicaSet replicaSet;
+    private final ClientWriteTracker clientWriteTracker;
+
+    public ReplicationListener(ReplicaSet replicaSet, ClientWriteTracker clientWriteTracker) {
+        this.replicaSet = replicaSet;
+        this.clientWriteTracker = clientWriteTracker;
+    }
+
+    @Override
+    public void onBeerChange(BeerChangeEvent event) {
+        long sequence = replicaSet.replicate(event.getBeer().getId());
+        clientWriteTracker.recordWrite(sequence);
+    }
+}
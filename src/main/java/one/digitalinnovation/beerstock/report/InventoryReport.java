@@ -0,0 +1,73 @@
+package one.digitalinnovation.beerstock.report;
+
+import one.digitalinnovation.beerstock.dto.InventoryReportDTO;
+
+import java.time.Instant;
+
+/** State of one report, written by the report thread and read by status requests. */
+public class InventoryReport {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Instant requestedAt = Instant.now();
+    private volatile State state = State.QUEUED;
+    private volatile Instant snapshotAt;
+    private volatile Instant finishedAt;
+    private volatile long beers;
+    private volatile long totalQuantity;
+    private volatile String failure;
+
+    public InventoryReport(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    void start() {
+        state = State.RUNNING;
+    }
+
+    void snapshotTaken() {
+        if (snapshotAt == null) {
+            snapshotAt = Instant.now();
+        }
+    }
+
+    void complete(long beers, long totalQuantity) {
+        this.beers = beers;
+        this.totalQuantity = totalQuantity;
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failure = reason;
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    public InventoryReportDTO toDTO() {
+        return InventoryReportDTO.builder()
+                .id(id)
+                .state(state.name())
+                .requestedAt(requestedAt)
+                .snapshotAt(snapshotAt)
+                .finishedAt(finishedAt)
+                .beers(beers)
+                .totalQuantity(totalQuantity)
+                .failure(failure)
+                .build();
+    }
+}
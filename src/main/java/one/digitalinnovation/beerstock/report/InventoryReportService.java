@@ -0,0 +1,205 @@
+package one.digitalinnovation.beerstock.report;
+
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.ReportProperties;
+import one.digitalinnovation.beerstock.dto.InventoryReportDTO;
+import one.digitalinnovation.beerstock.exception.ReportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ReportNotReadyException;
+import one.digitalinnovation.beerstock.sharding.ShardSet;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Writes point-in-time inventory reports in the background. The table is read page by page inside one
+ * REPEATABLE_READ transaction: H2's MVCC store serves every page from the versions committed when the first one
+ * was read and takes no row locks, so stock changes keep committing while the report is written and none of them
+ * show up half-way through it. With sharding each shard is read in its own snapshot, so the report is consistent
+ * per shard only.
+ */
+@Slf4j
+@Service
+public class InventoryReportService {
+
+    private static final String SELECT_PAGE = "SELECT id, name, brand, type, max, quantity FROM beer WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final DataSource dataSource;
+    private final ObjectProvider<ShardSet> shardSet;
+    private final ReportProperties properties;
+    private final Map<String, InventoryReport> reports = new ConcurrentHashMap<>();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inventory-report");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    public InventoryReportService(DataSource dataSource, ObjectProvider<ShardSet> shardSet, ReportProperties properties) {
+        this.dataSource = dataSource;
+        this.shardSet = shardSet;
+        this.properties = properties;
+    }
+
+    public InventoryReportDTO start() {
+        InventoryReport report = new InventoryReport(UUID.randomUUID().toString());
+        reports.put(report.getId(), report);
+        runner.execute(() -> run(report));
+        return report.toDTO();
+    }
+
+    public InventoryReportDTO status(String id) throws ReportNotFoundException {
+        InventoryReport report = reports.get(id);
+        if (report == null) {
+            throw new ReportNotFoundException(id);
+        }
+        return report.toDTO();
+    }
+
+    public Path file(String id) throws ReportNotFoundException, ReportNotReadyException {
+        InventoryReport report = reports.get(id);
+        if (report == null) {
+            throw new ReportNotFoundException(id);
+        }
+        if (report.getState() != InventoryReport.State.COMPLETED) {
+            throw new ReportNotReadyException(id, report.getState().name());
+        }
+        Path file = fileOf(id);
+        if (!Files.exists(file)) {
+            throw new ReportNotFoundException(id);
+        }
+        return file;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run(InventoryReport report) {
+        report.start();
+        Path file = fileOf(report.getId());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(properties.getDirectory());
+            long[] totals = new long[2];
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write("id,name,brand,type,max,quantity\n");
+                for (DataSource source : sources()) {
+                    writeSnapshot(report, source, writer, totals);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            report.complete(totals[0], totals[1]);
+            deleteOldReports();
+        } catch (Exception e) {
+            log.error("Inventory report {} failed", report.getId(), e);
+            report.fail(e.getMessage());
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException cleanup) {
+                log.warn("Could not delete {}", temporary, cleanup);
+            }
+        }
+    }
+
+    private void writeSnapshot(InventoryReport report, DataSource source, BufferedWriter writer, long[] totals) {
+        TransactionTemplate snapshot = new TransactionTemplate(new DataSourceTransactionManager(source));
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(source);
+        int pageSize = properties.getPageSize();
+        snapshot.executeWithoutResult(status -> {
+            report.snapshotTaken();
+            // Keyset pages keep memory flat on large catalogs; the transaction keeps all of them on one snapshot.
+            long[] lastId = {Long.MIN_VALUE};
+            int[] rows = new int[1];
+            do {
+                rows[0] = 0;
+                jdbcTemplate.query(SELECT_PAGE, resultSet -> {
+                    try {
+                        lastId[0] = resultSet.getLong(1);
+                        int quantity = resultSet.getInt(6);
+                        writer.write(Long.toString(lastId[0]));
+                        writer.write(',');
+                        writer.write(csvField(resultSet.getString(2)));
+                        writer.write(',');
+                        writer.write(csvField(resultSet.getString(3)));
+                        writer.write(',');
+                        writer.write(resultSet.getString(4));
+                        writer.write(',');
+                        writer.write(Integer.toString(resultSet.getInt(5)));
+                        writer.write(',');
+                        writer.write(Integer.toString(quantity));
+                        writer.write('\n');
+                        rows[0]++;
+                        totals[0]++;
+                        totals[1] += quantity;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, lastId[0], pageSize);
+            } while (rows[0] == pageSize);
+        });
+    }
+
+    // Shards are read directly: the routing DataSource can only reach the shard pinned to the current transaction.
+    private List<DataSource> sources() {
+        ShardSet shards = shardSet.getIfAvailable();
+        if (shards == null) {
+            return Collections.singletonList(dataSource);
+        }
+        return IntStream.range(0, shards.size())
+                .mapToObj(shards::getShard)
+                .collect(Collectors.toList());
+    }
+
+    private void deleteOldReports() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(properties.getDirectory())) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(".csv"))
+                    .sorted(Comparator.comparing(path -> path.toFile().lastModified()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        for (int i = 0; i < files.size() - properties.getMaxReports(); i++) {
+            Path expired = files.get(i);
+            Files.deleteIfExists(expired);
+            String name = expired.getFileName().toString();
+            reports.remove(name.substring(0, name.length() - ".csv".length()));
+        }
+    }
+
+    private Path fileOf(String id) {
+        return properties.getDirectory().resolve(id + ".csv");
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,11 +1,38 @@
 package one.digitalinnovation.beerstock.repository;
 
 import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BeerRepository extends JpaRepository<Beer, Long> {
 
     Optional<Beer> findByName(String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Beer> findForUpdateById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Beer> findForUpdateByIdIn(Collection<Long> ids);
+
+    @Query("select b.id from Beer b where b.brand = :brand")
+    List<Long> findIdsByBrand(@Param("brand") String brand);
+
+    @Query("select b.id from Beer b where b.type = :type")
+    List<Long> findIdsByType(@Param("type") BeerType type);
+
+    @Query("select b.name from Beer b where b.name in :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Modifying
+    @Query("delete from Beer b where b.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
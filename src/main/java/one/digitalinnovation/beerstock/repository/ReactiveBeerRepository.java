@@ -0,0 +1,18 @@
+package one.digitalinnovation.beerstock.repository;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBeerRepository extends R2dbcRepository<Beer, Long> {
+
+    Mono<Beer> findByName(String name);
+
+    // The reactive profile runs without a transaction manager, so the range check and the write are one statement.
+    @Modifying
+    @Query("UPDATE beer SET quantity = quantity + :delta, version = version + 1 WHERE id = :id AND quantity + :delta BETWEEN 0 AND max")
+    Mono<Integer> adjustQuantity(@Param("id") Long id, @Param("delta") int delta);
+}
@@ -0,0 +1,495 @@
+package one.digitalinnovation.beerstock.search;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory search over beer names and brands. Sorted term dictionaries answer exact and prefix matches and a
+ * trigram index over the same terms finds typo candidates, which are confirmed with a bounded edit distance.
+ * Candidates are gathered tier by tier (exact, prefix, fuzzy) and gathering stops once there are enough of them,
+ * so a query never scans the whole catalog. Reads are lock-free; writers are serialized.
+ */
+public class BeerSearchIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int CANDIDATES_PER_RESULT = 10;
+    // Trigrams shared by more terms than this are too common to narrow the fuzzy search and are skipped.
+    private static final int MAX_TRIGRAM_TERMS = 5_000;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Postings> nameTerms = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Postings> brandTerms = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+
+    public synchronized void put(Beer beer) {
+        Entry entry = entries.get(beer.getId());
+        if (entry != null && entry.beer.getName().equals(beer.getName()) && entry.beer.getBrand().equals(beer.getBrand())) {
+            entry.beer = beer;
+            return;
+        }
+        if (entry != null) {
+            unindex(entry);
+        }
+        entry = new Entry(beer);
+        entries.put(beer.getId(), entry);
+        index(nameTerms, entry, false);
+        index(brandTerms, entry, true);
+    }
+
+    // A word repeated within a name or brand is posted once; its later occurrences get no slot of their own.
+    private void index(NavigableMap<String, Postings> terms, Entry entry, boolean brand) {
+        String[] tokens = entry.tokens(brand);
+        int[] slots = entry.slots(brand);
+        for (int i = 0; i < tokens.length; i++) {
+            int earlier = i - 1;
+            while (earlier >= 0 && !tokens[earlier].equals(tokens[i])) {
+                earlier--;
+            }
+            if (earlier >= 0) {
+                tokens[i] = tokens[earlier];
+                slots[i] = -1;
+            } else {
+                tokens[i] = addPosting(terms, tokens[i], entry, brand);
+            }
+        }
+    }
+
+    public Long versionOf(Long id) {
+        Entry entry = entries.get(id);
+        return entry == null ? null : entry.beer.getVersion();
+    }
+
+    public synchronized void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            unindex(entry);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Beer> search(String query, BeerType type, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        String lead = leadToken(tokens);
+        int wanted = limit * CANDIDATES_PER_RESULT;
+        Set<Entry> candidates = new LinkedHashSet<>();
+        collect(nameTerms.get(lead), type, candidates, wanted);
+        collect(brandTerms.get(lead), type, candidates, wanted);
+        collectPrefix(nameTerms, lead, type, candidates, wanted);
+        collectPrefix(brandTerms, lead, type, candidates, wanted);
+        if (candidates.size() < wanted) {
+            for (String term : fuzzyTerms(lead)) {
+                collect(nameTerms.get(term), type, candidates, wanted);
+                collect(brandTerms.get(term), type, candidates, wanted);
+            }
+        }
+
+        String phrase = String.join(" ", tokens);
+        List<Scored> scored = new ArrayList<>(candidates.size());
+        for (Entry entry : candidates) {
+            int score = entry.phrase.equals(phrase) ? 200 : 0;
+            for (String token : tokens) {
+                int tokenScore = score(token, entry);
+                if (tokenScore == 0) {
+                    score = 0;
+                    break;
+                }
+                score += tokenScore;
+            }
+            if (score > 0) {
+                scored.add(new Scored(entry.beer, score));
+            }
+        }
+        scored.sort(Comparator.comparingInt((Scored s) -> -s.score)
+                .thenComparingInt(s -> s.beer.getName().length())
+                .thenComparing(s -> s.beer.getName()));
+        List<Beer> results = new ArrayList<>(Math.min(limit, scored.size()));
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            results.add(scored.get(i).beer);
+        }
+        return results;
+    }
+
+    // Candidates are gathered for one token only, so pick the rarest exact term: a common word such as a brand shared by
+    // thousands of beers would fill the candidate set before reaching the few entries that match the other tokens.
+    // Tokens with no exact term are prefixes or typos; the longest of those is the most selective guess.
+    private String leadToken(List<String> tokens) {
+        String lead = null;
+        int leadPostings = Integer.MAX_VALUE;
+        for (String token : tokens) {
+            int postings = sizeOf(nameTerms.get(token)) + sizeOf(brandTerms.get(token));
+            if (postings > 0 && postings < leadPostings) {
+                lead = token;
+                leadPostings = postings;
+            }
+        }
+        return lead != null ? lead : tokens.stream().max(Comparator.comparingInt(String::length)).get();
+    }
+
+    private static int sizeOf(Postings postings) {
+        return postings == null ? 0 : postings.live;
+    }
+
+    private static void collect(Postings postings, BeerType type, Set<Entry> candidates, int wanted) {
+        if (postings == null) {
+            return;
+        }
+        int size = postings.size;
+        Entry[] items = postings.items;
+        size = Math.min(size, items.length);
+        for (int i = 0; i < size && candidates.size() < wanted; i++) {
+            Entry entry = items[i];
+            if (entry != null && (type == null || entry.beer.getType() == type)) {
+                candidates.add(entry);
+            }
+        }
+    }
+
+    private static void collectPrefix(NavigableMap<String, Postings> terms, String prefix, BeerType type,
+                                      Set<Entry> candidates, int wanted) {
+        for (Postings postings : terms.subMap(prefix, false, prefix + Character.MAX_VALUE, false).values()) {
+            if (candidates.size() >= wanted) {
+                return;
+            }
+            collect(postings, type, candidates, wanted);
+        }
+    }
+
+    private Collection<String> fuzzyTerms(String token) {
+        int maxEdits = maxEdits(token);
+        if (maxEdits == 0) {
+            return new ArrayList<>();
+        }
+        List<String> grams = trigramsOf(token);
+        int required = grams.size() - 3 * maxEdits;
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            Set<String> terms = trigrams.get(gram);
+            if (terms == null) {
+                continue;
+            }
+            if (terms.size() > MAX_TRIGRAM_TERMS) {
+                required--;
+                continue;
+            }
+            for (String term : terms) {
+                shared.merge(term, 1, Integer::sum);
+            }
+        }
+        List<String> matches = new ArrayList<>();
+        if (required <= 0) {
+            return matches;
+        }
+        for (Map.Entry<String, Integer> candidate : shared.entrySet()) {
+            String term = candidate.getKey();
+            if (candidate.getValue() >= required && Math.abs(term.length() - token.length()) <= maxEdits
+                    && editDistance(token, term, maxEdits) <= maxEdits) {
+                matches.add(term);
+            }
+        }
+        return matches;
+    }
+
+    private static int score(String token, Entry entry) {
+        int best = 0;
+        for (int i = 0; i < entry.nameTokens.length; i++) {
+            String term = entry.nameTokens[i];
+            int bonus = i == 0 ? 10 : 0;
+            if (term.equals(token)) {
+                return 100 + bonus;
+            }
+            if (term.startsWith(token)) {
+                best = Math.max(best, 60 + bonus);
+            }
+        }
+        for (String term : entry.brandTokens) {
+            if (term.equals(token)) {
+                best = Math.max(best, 40);
+            } else if (term.startsWith(token)) {
+                best = Math.max(best, 25);
+            }
+        }
+        if (best > 0) {
+            return best;
+        }
+        int maxEdits = maxEdits(token);
+        if (maxEdits == 0) {
+            return 0;
+        }
+        for (String term : entry.nameTokens) {
+            int distance = editDistance(token, term, maxEdits);
+            if (distance <= maxEdits) {
+                best = Math.max(best, 30 - 10 * distance);
+            }
+        }
+        for (String term : entry.brandTokens) {
+            int distance = editDistance(token, term, maxEdits);
+            if (distance <= maxEdits) {
+                best = Math.max(best, 15 - 5 * distance);
+            }
+        }
+        return best;
+    }
+
+    // Returns the dictionary's own copy of the term so entries share term strings instead of holding duplicates.
+    private String addPosting(NavigableMap<String, Postings> terms, String term, Entry entry, boolean brand) {
+        Postings postings = terms.get(term);
+        if (postings == null) {
+            String canonical = nameTerms.containsKey(term) ? nameTerms.ceilingKey(term)
+                    : brandTerms.containsKey(term) ? brandTerms.ceilingKey(term) : null;
+            if (canonical == null && maxEdits(term) > 0) {
+                for (String gram : trigramsOf(term)) {
+                    trigrams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(term);
+                }
+            }
+            term = canonical == null ? term : canonical;
+            postings = new Postings(term, brand);
+            terms.put(term, postings);
+        } else {
+            term = postings.term;
+        }
+        postings.add(entry);
+        return term;
+    }
+
+    private void unindex(Entry entry) {
+        Set<String> removed = new HashSet<>();
+        for (int i = 0; i < entry.nameTokens.length; i++) {
+            removePosting(nameTerms, entry.nameTokens[i], entry.nameSlots[i], removed);
+        }
+        for (int i = 0; i < entry.brandTokens.length; i++) {
+            removePosting(brandTerms, entry.brandTokens[i], entry.brandSlots[i], removed);
+        }
+        for (String term : removed) {
+            if (nameTerms.containsKey(term) || brandTerms.containsKey(term)) {
+                continue;
+            }
+            for (String gram : trigramsOf(term)) {
+                Set<String> terms = trigrams.get(gram);
+                if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                    trigrams.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, Postings> terms, String term, int slot, Set<String> removed) {
+        if (slot < 0) {
+            return;
+        }
+        Postings postings = terms.get(term);
+        if (postings != null && postings.remove(slot) && postings.live == 0) {
+            terms.remove(term);
+            removed.add(term);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        for (String token : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> trigramsOf(String term) {
+        String padded = "$$" + term + "$$";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    // Typos are only considered for words long enough that a trigram filter can narrow the candidates.
+    private static int maxEdits(String token) {
+        if (token.length() < 4 || token.chars().allMatch(Character::isDigit)) {
+            return 0;
+        }
+        return token.length() < 7 ? 1 : 2;
+    }
+
+    /**
+     * Levenshtein distance, giving up with {@code max + 1} as soon as every cell in a row exceeds {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Array of entries with a single writer (the index lock). Each entry remembers its slot, so removal is constant
+     * time: the slot is cleared and left as a tombstone. Entries are never moved within a published array. Once
+     * tombstones outnumber live entries, the live ones are copied into a new array, which is published before the
+     * smaller size. Readers take {@code size} before {@code items} and bound it by the array length. A reader
+     * therefore sees every entry that stayed indexed for its whole read. Entries added or removed during the read
+     * may or may not be seen, and cleared slots read as {@code null}.
+     */
+    private static final class Postings {
+
+        private static final int MIN_COMPACTION_SIZE = 8;
+
+        private final String term;
+        private final boolean brand;
+        private volatile Entry[] items = new Entry[1];
+        private volatile int size;
+        private volatile int live;
+
+        private Postings(String term, boolean brand) {
+            this.term = term;
+            this.brand = brand;
+        }
+
+        private void add(Entry entry) {
+            Entry[] current = items;
+            if (size == current.length) {
+                if (live <= size / 2) {
+                    current = compact(current.length);
+                } else {
+                    current = Arrays.copyOf(current, current.length * 2);
+                    items = current;
+                }
+            }
+            int slot = size;
+            current[slot] = entry;
+            entry.slots(brand)[slotIndex(entry, -1)] = slot;
+            size = slot + 1;
+            live = live + 1;
+        }
+
+        private boolean remove(int slot) {
+            Entry[] current = items;
+            if (slot >= size || current[slot] == null) {
+                return false;
+            }
+            current[slot] = null;
+            live = live - 1;
+            if (size >= MIN_COMPACTION_SIZE && live < size - live) {
+                compact(Math.max(1, live * 2));
+            }
+            return true;
+        }
+
+        private Entry[] compact(int capacity) {
+            Entry[] current = items;
+            int length = size;
+            Entry[] compacted = new Entry[capacity];
+            int next = 0;
+            for (int i = 0; i < length; i++) {
+                Entry entry = current[i];
+                if (entry != null) {
+                    compacted[next] = entry;
+                    entry.slots(brand)[slotIndex(entry, i)] = next;
+                    next++;
+                }
+            }
+            items = compacted;
+            size = next;
+            return compacted;
+        }
+
+        // Finds which of the entry's tokens is posted here at the given slot; -1 matches a token not yet placed.
+        private int slotIndex(Entry entry, int slot) {
+            String[] tokens = entry.tokens(brand);
+            int[] slots = entry.slots(brand);
+            for (int i = 0; i < tokens.length; i++) {
+                if (slots[i] == slot && tokens[i].equals(term)) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Entry is not posted under " + term);
+        }
+    }
+
+    private static final class Entry {
+
+        private volatile Beer beer;
+        private final String[] nameTokens;
+        private final String[] brandTokens;
+        private final int[] nameSlots;
+        private final int[] brandSlots;
+        private final String phrase;
+
+        private Entry(Beer beer) {
+            this.beer = beer;
+            List<String> name = tokenize(beer.getName());
+            this.nameTokens = name.toArray(new String[0]);
+            this.brandTokens = tokenize(beer.getBrand()).toArray(new String[0]);
+            this.phrase = String.join(" ", name);
+            this.nameSlots = new int[nameTokens.length];
+            this.brandSlots = new int[brandTokens.length];
+            Arrays.fill(nameSlots, -1);
+            Arrays.fill(brandSlots, -1);
+        }
+
+        private String[] tokens(boolean brand) {
+            return brand ? brandTokens : nameTokens;
+        }
+
+        private int[] slots(boolean brand) {
+            return brand ? brandSlots : nameSlots;
+        }
+    }
+
+    private static final class Scored {
+
+        private final Beer beer;
+        private final int score;
+
+        private Scored(Beer beer, int score) {
+            this.beer = beer;
+            this.score = score;
+        }
+    }
+}
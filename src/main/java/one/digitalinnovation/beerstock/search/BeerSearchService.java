@@ -0,0 +1,54 @@
+package one.digitalinnovation.beerstock.search;
+
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.event.BeerProjection;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Profile("!reactive")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class BeerSearchService extends BeerProjection {
+
+    private final BeerSearchIndex index = new BeerSearchIndex();
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    public BeerSearchService(BeerRepository beerRepository) {
+        super(beerRepository);
+    }
+
+    public List<BeerDTO> search(String query, BeerType type, int limit) {
+        return index.search(query, type, limit).stream()
+                .map(beerMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void put(Beer beer) {
+        index.put(beer);
+    }
+
+    @Override
+    protected Long versionOf(Long id) {
+        return index.versionOf(id);
+    }
+
+    @Override
+    protected void remove(Long id) {
+        index.remove(id);
+    }
+
+    @Override
+    protected int size() {
+        return index.size();
+    }
+}
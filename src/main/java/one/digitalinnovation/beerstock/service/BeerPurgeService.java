@@ -0,0 +1,100 @@
+package one.digitalinnovation.beerstock.service;
+
+import lombok.AllArgsConstructor;
+import one.digitalinnovation.beerstock.dto.BulkDeleteDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteResultDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.event.BeerChangePublisher;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import one.digitalinnovation.beerstock.sharding.ShardDirectory;
+import one.digitalinnovation.beerstock.sharding.ShardSet;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes many beers with set-based statements. The matching ids are deleted in chunks, each in its own short
+ * transaction that locks, deletes and publishes only that chunk, so a large purge never holds locks on the whole
+ * catalog and listeners see one {@link BeerChangeEvent.Type#DELETED} event per removed beer.
+ */
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerPurgeService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final int UNKNOWN_SHARD = -1;
+
+    private final BeerRepository beerRepository;
+    private final BeerChangePublisher beerChangePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ShardSet> shardSet;
+
+    public BulkDeleteResultDTO delete(BulkDeleteDTO request) {
+        boolean byId = request.getIds() != null;
+        List<Long> ids;
+        if (byId) {
+            ids = request.getIds().stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+        } else if (request.getBrand() != null) {
+            ids = beerRepository.findIdsByBrand(request.getBrand());
+        } else {
+            ids = beerRepository.findIdsByType(request.getType());
+        }
+        int deleted = 0;
+        List<Long> missingIds = new ArrayList<>();
+        for (List<Long> chunk : chunks(ids)) {
+            deleted += transactionTemplate.execute(status -> deleteChunk(chunk, byId ? missingIds : null));
+        }
+        return BulkDeleteResultDTO.builder()
+                .deleted(deleted)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    private int deleteChunk(List<Long> chunk, List<Long> missingIds) {
+        List<Beer> beers = beerRepository.findForUpdateByIdIn(chunk);
+        Set<Long> found = new HashSet<>();
+        beers.forEach(beer -> found.add(beer.getId()));
+        if (missingIds != null) {
+            chunk.stream().filter(id -> !found.contains(id)).forEach(missingIds::add);
+        }
+        if (found.isEmpty()) {
+            return 0;
+        }
+        int deleted = beerRepository.deleteByIdIn(found);
+        beers.forEach(beer -> beerChangePublisher.publish(BeerChangeEvent.deleted(beer)));
+        return deleted;
+    }
+
+    // A transaction can only touch one shard, so when sharding is active every chunk holds ids of a single shard.
+    private List<List<Long>> chunks(List<Long> ids) {
+        ShardSet shards = shardSet.getIfAvailable();
+        ShardDirectory directory = shards == null ? null : shards.getDirectory();
+        Map<Integer, List<Long>> byShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Integer shard = directory == null ? Integer.valueOf(0) : directory.shardOfId(id);
+            byShard.computeIfAbsent(shard == null ? UNKNOWN_SHARD : shard, key -> new ArrayList<>()).add(id);
+        }
+        List<List<Long>> chunks = new ArrayList<>();
+        for (List<Long> shardIds : byShard.values()) {
+            for (int from = 0; from < shardIds.size(); from += CHUNK_SIZE) {
+                chunks.add(shardIds.subList(from, Math.min(shardIds.size(), from + CHUNK_SIZE)));
+            }
+        }
+        return chunks;
+    }
+}
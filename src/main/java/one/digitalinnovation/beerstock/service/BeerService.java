@@ -3,14 +3,18 @@ package one.digitalinnovation.beerstock.service;
 import lombok.AllArgsConstructor;
 import one.digitalinnovation.beerstock.dto.BeerDTO;
 import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.event.BeerChangePublisher;
 import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
 import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
 import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
 import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
 import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.monitoring.HotKeyTracker;
 import one.digitalinnovation.beerstock.repository.BeerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,21 +25,28 @@ import java.util.stream.Collectors;
 public class BeerService {
 
     private final BeerRepository beerRepository;
+    private final HotKeyTracker hotKeyTracker;
+    private final BeerChangePublisher beerChangePublisher;
     private final BeerMapper beerMapper = BeerMapper.INSTANCE;
 
+    @Transactional
     public BeerDTO createBeer(BeerDTO beerDTO) throws BeerAlreadyRegisteredException {
         verifyIfIsAlreadyRegistered(beerDTO.getName());
         Beer beer = beerMapper.toModel(beerDTO);
         Beer savedBeer = beerRepository.save(beer);
+        beerChangePublisher.publish(BeerChangeEvent.created(savedBeer));
         return beerMapper.toDTO(savedBeer);
     }
 
+    @Transactional(readOnly = true)
     public BeerDTO findByName(String name) throws BeerNotFoundException {
+        hotKeyTracker.recordLookup(name);
         Beer foundBeer = beerRepository.findByName(name)
                 .orElseThrow(() -> new BeerNotFoundException(name));
         return beerMapper.toDTO(foundBeer);
     }
 
+    @Transactional(readOnly = true)
     public List<BeerDTO> listAll() {
         return beerRepository.findAll()
                 .stream()
@@ -43,9 +54,11 @@ public class BeerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public void deleteById(Long id) throws BeerNotFoundException {
-        verifyIfExists(id);
-        beerRepository.deleteById(id);
+        Beer beerToDelete = lockIfExists(id);
+        beerRepository.delete(beerToDelete);
+        beerChangePublisher.publish(BeerChangeEvent.deleted(beerToDelete));
     }
 
     private void verifyIfIsAlreadyRegistered(String name) throws BeerAlreadyRegisteredException {
@@ -60,23 +73,38 @@ public class BeerService {
                 .orElseThrow(() -> new BeerNotFoundException(id));
     }
 
+    // Stock changes read-modify-write the quantity; locking the row keeps concurrent changes from overwriting each other.
+    // Changes are flushed while the lock is held, so the published event carries the version this change wrote.
+    private Beer lockIfExists(Long id) throws BeerNotFoundException {
+        return beerRepository.findForUpdateById(id)
+                .orElseThrow(() -> new BeerNotFoundException(id));
+    }
+
+    @Transactional
     public BeerDTO increment(Long id, int quantityToIncrement) throws BeerNotFoundException, BeerStockExceededException {
-        Beer beerToIncrementStock = verifyIfExists(id);
-        int quantityAfterIncrement = quantityToIncrement + beerToIncrementStock.getQuantity();
+        hotKeyTracker.recordStockMutation(id);
+        Beer beerToIncrementStock = lockIfExists(id);
+        int quantityBeforeIncrement = beerToIncrementStock.getQuantity();
+        int quantityAfterIncrement = quantityToIncrement + quantityBeforeIncrement;
         if (quantityAfterIncrement <= beerToIncrementStock.getMax()) {
             beerToIncrementStock.setQuantity(quantityAfterIncrement);
-            Beer incrementedBeerStock = beerRepository.save(beerToIncrementStock);
+            Beer incrementedBeerStock = beerRepository.saveAndFlush(beerToIncrementStock);
+            beerChangePublisher.publish(BeerChangeEvent.stockChanged(incrementedBeerStock, quantityBeforeIncrement));
             return beerMapper.toDTO(incrementedBeerStock);
         }
         throw new BeerStockExceededException(id, quantityToIncrement);
     }
 
+	@Transactional
 	public BeerDTO decrement(Long id, Integer quantityToDecrement) throws BeerNotFoundException, BeerStockLessThanZeroException {
-		Beer beerToDecrementStock = verifyIfExists(id);
-		int quantityAfterDecrement = beerToDecrementStock.getQuantity() - quantityToDecrement;
+		hotKeyTracker.recordStockMutation(id);
+		Beer beerToDecrementStock = lockIfExists(id);
+		int quantityBeforeDecrement = beerToDecrementStock.getQuantity();
+		int quantityAfterDecrement = quantityBeforeDecrement - quantityToDecrement;
 		if(quantityAfterDecrement >= 0) {
 			beerToDecrementStock.setQuantity(quantityAfterDecrement);
-			Beer decrementedBeerStock = beerRepository.save(beerToDecrementStock);
+			Beer decrementedBeerStock = beerRepository.saveAndFlush(beerToDecrementStock);
+			beerChangePublisher.publish(BeerChangeEvent.stockChanged(decrementedBeerStock, quantityBeforeDecrement));
 			return beerMapper.toDTO(decrementedBeerStock);
 		}
 		throw new BeerStockLessThanZeroException(id, quantityToDecrement);
@@ -0,0 +1,74 @@
+package one.digitalinnovation.beerstock.service;
+
+import lombok.AllArgsConstructor;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.ReactiveBeerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class ReactiveBeerService {
+
+    private final ReactiveBeerRepository beerRepository;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    public Mono<BeerDTO> createBeer(BeerDTO beerDTO) {
+        return beerRepository.findByName(beerDTO.getName())
+                .flatMap(savedBeer -> Mono.<Beer>error(new BeerAlreadyRegisteredException(beerDTO.getName())))
+                .switchIfEmpty(Mono.defer(() -> beerRepository.save(beerMapper.toModel(beerDTO))))
+                .map(beerMapper::toDTO);
+    }
+
+    public Mono<BeerDTO> findByName(String name) {
+        return beerRepository.findByName(name)
+                .switchIfEmpty(Mono.error(() -> new BeerNotFoundException(name)))
+                .map(beerMapper::toDTO);
+    }
+
+    public Flux<BeerDTO> listAll() {
+        return beerRepository.findAll()
+                .map(beerMapper::toDTO);
+    }
+
+    public Mono<Void> deleteById(Long id) {
+        return verifyIfExists(id)
+                .flatMap(beer -> beerRepository.deleteById(id));
+    }
+
+    private Mono<Beer> verifyIfExists(Long id) {
+        return beerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new BeerNotFoundException(id)));
+    }
+
+    public Mono<BeerDTO> increment(Long id, int quantityToIncrement) {
+        return adjust(id, quantityToIncrement, () -> new BeerStockExceededException(id, quantityToIncrement));
+    }
+
+    public Mono<BeerDTO> decrement(Long id, int quantityToDecrement) {
+        return adjust(id, -quantityToDecrement, () -> new BeerStockLessThanZeroException(id, quantityToDecrement));
+    }
+
+    // A conditional update rather than read-check-save, so concurrent requests can neither lose each other's
+    // changes nor push the quantity outside [0, max]. When no row changed, a lookup tells a missing beer apart
+    // from a refused quantity.
+    private Mono<BeerDTO> adjust(Long id, int delta, Supplier<Throwable> refused) {
+        return beerRepository.adjustQuantity(id, delta)
+                .flatMap(updated -> updated == 1
+                        ? verifyIfExists(id)
+                        : verifyIfExists(id).then(Mono.error(refused)))
+                .map(beerMapper::toDTO);
+    }
+}
@@ -0,0 +1,76 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory map of where every beer lives, rebuilt from the shards on startup. New beers are placed by a hash of
+ * their name; ids are never re-derived from placement, so a beer keeps its id when the rebalancer moves it.
+ */
+public class ShardDirectory {
+
+    private final int shardCount;
+    private final Map<Long, Location> byId = new ConcurrentHashMap<>();
+    private final Map<String, Integer> byName = new ConcurrentHashMap<>();
+
+    public ShardDirectory(int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    public int placementFor(String name) {
+        int hash = name.hashCode() * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    public Integer shardOfId(Long id) {
+        Location location = id == null ? null : byId.get(id);
+        return location == null ? null : location.shard;
+    }
+
+    public Integer shardOfName(String name) {
+        return name == null ? null : byName.get(name);
+    }
+
+    public void register(long id, String name, int shard) {
+        Location previous = byId.put(id, new Location(name, shard));
+        if (previous != null && !previous.name.equals(name)) {
+            byName.remove(previous.name, previous.shard);
+        }
+        byName.put(name, shard);
+    }
+
+    public void remove(long id) {
+        Location location = byId.remove(id);
+        if (location != null) {
+            byName.remove(location.name, location.shard);
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public long countOn(int shard) {
+        return byId.values().stream().filter(location -> location.shard == shard).count();
+    }
+
+    public List<Long> idsOn(int shard) {
+        return byId.entrySet().stream()
+                .filter(entry -> entry.getValue().shard == shard)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static final class Location {
+
+        private final String name;
+        private final int shard;
+
+        private Location(String name, int shard) {
+            this.name = name;
+            this.shard = shard;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves beers whose shard no longer matches their placement, for example after shards were added. Each move
+ * holds the source row lock while it copies the row and deletes the original, so a concurrent stock update either
+ * lands before the copy or fails instead of being lost. The copy is written outside the source transaction and is
+ * deleted again if that transaction rolls back; the directory is repointed only once the source has committed.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    private static final String SELECT_FOR_UPDATE = "SELECT id, name, brand, max, quantity, type, version FROM beer WHERE id = ? FOR UPDATE";
+    private static final String INSERT = "INSERT INTO beer (id, name, brand, max, quantity, type, version) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final ShardSet shardSet;
+    private final ShardDirectory directory;
+
+    public ShardRebalancer(ShardSet shardSet) {
+        this.shardSet = shardSet;
+        this.directory = shardSet.getDirectory();
+    }
+
+    public long misplaced() {
+        return shardSet.fanOut(shard -> new JdbcTemplate(shardSet.getShard(shard))
+                .queryForList("SELECT name FROM beer", String.class)
+                .stream()
+                .filter(name -> directory.placementFor(name) != shard)
+                .count())
+                .stream().mapToLong(Long::longValue).sum();
+    }
+
+    public synchronized long rebalance() {
+        long moved = 0;
+        for (int shard = 0; shard < shardSet.size(); shard++) {
+            JdbcTemplate source = new JdbcTemplate(shardSet.getShard(shard));
+            List<Map<String, Object>> rows = source.queryForList("SELECT id, name FROM beer");
+            for (Map<String, Object> row : rows) {
+                String name = (String) row.get("NAME");
+                int target = directory.placementFor(name);
+                if (target != shard && move(((Number) row.get("ID")).longValue(), shard, target)) {
+                    moved++;
+                }
+            }
+        }
+        log.info("Rebalanced {} beers across {} shards", moved, shardSet.size());
+        return moved;
+    }
+
+    private boolean move(long id, int from, int to) {
+        JdbcTemplate source = new JdbcTemplate(shardSet.getShard(from));
+        JdbcTemplate target = new JdbcTemplate(shardSet.getShard(to));
+        TransactionTemplate sourceTransaction = new TransactionTemplate(new DataSourceTransactionManager(shardSet.getShard(from)));
+        AtomicBoolean copied = new AtomicBoolean();
+        String name;
+        try {
+            name = sourceTransaction.execute(status -> {
+                List<Map<String, Object>> rows = source.queryForList(SELECT_FOR_UPDATE, id);
+                if (rows.isEmpty()) {
+                    return null;
+                }
+                Map<String, Object> row = rows.get(0);
+                target.update(INSERT, row.get("ID"), row.get("NAME"), row.get("BRAND"), row.get("MAX"),
+                        row.get("QUANTITY"), row.get("TYPE"), row.get("VERSION"));
+                copied.set(true);
+                source.update("DELETE FROM beer WHERE id = ?", id);
+                return (String) row.get("NAME");
+            });
+        } catch (RuntimeException e) {
+            // The copy committed on its own, so it is undone by hand; the source row stays where the directory points.
+            if (copied.get()) {
+                try {
+                    target.update("DELETE FROM beer WHERE id = ?", id);
+                } catch (RuntimeException cleanup) {
+                    e.addSuppressed(cleanup);
+                }
+            }
+            throw e;
+        }
+        if (name == null) {
+            return false;
+        }
+        directory.register(id, name, to);
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Resolves connections against the shard bound in {@link ShardContext}, defaulting to shard 0. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so a transaction started before its
+ * first repository call still lands on the shard that call selects.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard == null ? 0 : shard;
+    }
+}
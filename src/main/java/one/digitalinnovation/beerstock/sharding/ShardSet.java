@@ -0,0 +1,116 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * The shard pools plus the directory of which shard holds each beer. Each shard owns the beer table schema and an
+ * identity sequence offset by its index, so ids stay unique across shards without coordination.
+ */
+public class ShardSet {
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS beer (" +
+            "id BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH %d INCREMENT BY %d) PRIMARY KEY, " +
+            "name VARCHAR(255) NOT NULL UNIQUE, brand VARCHAR(255) NOT NULL, max INT NOT NULL, " +
+            "quantity INT NOT NULL, type VARCHAR(255) NOT NULL, version BIGINT DEFAULT 0 NOT NULL)";
+
+    private final List<DataSource> shards;
+    private final int idStride;
+    private final ShardDirectory directory;
+    private final ExecutorService fanOut;
+
+    public ShardSet(List<DataSource> shards, int idStride) {
+        if (shards.isEmpty() || shards.size() > idStride) {
+            throw new IllegalArgumentException("Between 1 and " + idStride + " shards are supported, got " + shards.size());
+        }
+        this.shards = shards;
+        this.idStride = idStride;
+        this.directory = new ShardDirectory(shards.size());
+        AtomicInteger threads = new AtomicInteger();
+        this.fanOut = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-fan-out-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void initialize() {
+        fanOut(shard -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.get(shard));
+            jdbcTemplate.execute(String.format(CREATE_TABLE, shard + 1, idStride));
+            return jdbcTemplate.query("SELECT id, name FROM beer", (rs, rowNum) -> {
+                directory.register(rs.getLong(1), rs.getString(2), shard);
+                return null;
+            });
+        });
+    }
+
+    /**
+     * Runs {@code task} once per shard in parallel and returns the results in shard order.
+     */
+    public <T> List<T> fanOut(IntFunction<T> task) {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int shard = 0; shard < shards.size(); shard++) {
+            int target = shard;
+            futures.add(fanOut.submit(() -> {
+                Integer previous = ShardContext.current();
+                ShardContext.set(target);
+                try {
+                    return task.apply(target);
+                } finally {
+                    ShardContext.set(previous);
+                }
+            }));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for shards", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return results;
+    }
+
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    public ShardDirectory getDirectory() {
+        return directory;
+    }
+
+    public void shutdown() {
+        fanOut.shutdownNow();
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) shard).close();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to close shard data source", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.support.PropertyComparator;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Routes {@code BeerRepository} calls to the shard owning the beer and fans whole-table reads out to every shard,
+ * merging sorted and paged results. Batch calls are split into one call per shard.
+ * A transaction is pinned to the shard of its first repository call; touching a second shard in the same
+ * transaction fails fast instead of silently reading or writing the wrong database.
+ */
+@Aspect
+public class ShardedRepositoryAspect {
+
+    private final ShardSet shardSet;
+    private final ShardDirectory directory;
+
+    public ShardedRepositoryAspect(ShardSet shardSet) {
+        this.shardSet = shardSet;
+        this.directory = shardSet.getDirectory();
+    }
+
+    // Matched on the repository proxy: most methods are declared on Spring Data's base interfaces, not on
+    // BeerRepository itself, and are implemented by a target class that does not implement it.
+    @Around("this(one.digitalinnovation.beerstock.repository.BeerRepository) "
+            + "&& execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        switch (joinPoint.getSignature().getName()) {
+            case "save":
+            case "saveAndFlush":
+                return save(joinPoint, (Beer) args[0]);
+            case "saveAll":
+                return saveAll(joinPoint, (Iterable<?>) args[0]);
+            case "findById":
+            case "findForUpdateById":
+            case "existsById":
+                return findById(joinPoint, (Long) args[0]);
+            case "getOne":
+                return onShard(joinPoint, shardOfId((Long) args[0]));
+            case "findAllById":
+                return findAllById(joinPoint, (Iterable<?>) args[0]);
+            case "deleteById":
+                return delete(joinPoint, (Long) args[0]);
+            case "delete":
+                return delete(joinPoint, ((Beer) args[0]).getId());
+            case "deleteAll":
+                return args.length == 0 ? deleteEverywhere(joinPoint) : deleteAll(joinPoint, (Iterable<?>) args[0]);
+            case "deleteInBatch":
+                return deleteAll(joinPoint, (Iterable<?>) args[0]);
+            case "deleteAllInBatch":
+                return deleteEverywhere(joinPoint);
+            case "findForUpdateByIdIn":
+            case "deleteByIdIn":
+                return onShardOfIds(joinPoint, (Collection<?>) args[0]);
+            case "findIdsByBrand":
+            case "findIdsByType":
+            case "findExistingNames":
+                return concat(shardSet.fanOut(shard -> proceed(joinPoint)));
+            case "findByName":
+                return onShard(joinPoint, shardOfName((String) args[0]));
+            case "findAll":
+                return findAll(joinPoint, args);
+            case "findOne":
+                return findOne(joinPoint);
+            case "count":
+                return shardSet.fanOut(shard -> (Long) proceed(joinPoint)).stream().mapToLong(Long::longValue).sum();
+            case "exists":
+                return shardSet.fanOut(shard -> (Boolean) proceed(joinPoint)).contains(Boolean.TRUE);
+            case "flush":
+                // Flushes the persistence context, whose connection is already pinned to the transaction's shard.
+                return joinPoint.proceed();
+            default:
+                break;
+        }
+        throw new UnsupportedOperationException(joinPoint.getSignature().toShortString() + " is not supported across shards");
+    }
+
+    private Object save(ProceedingJoinPoint joinPoint, Beer beer) throws Throwable {
+        Integer shard = directory.shardOfId(beer.getId());
+        if (shard == null) {
+            shard = shardOfName(beer.getName());
+        }
+        Beer saved = (Beer) onShard(joinPoint, shard);
+        directory.register(saved.getId(), saved.getName(), shard);
+        return saved;
+    }
+
+    private Object saveAll(ProceedingJoinPoint joinPoint, Iterable<?> beers) throws Throwable {
+        Map<Integer, List<Beer>> byShard = new TreeMap<>();
+        for (Object beer : beers) {
+            Integer shard = directory.shardOfId(((Beer) beer).getId());
+            if (shard == null) {
+                shard = shardOfName(((Beer) beer).getName());
+            }
+            byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add((Beer) beer);
+        }
+        List<Beer> saved = new ArrayList<>();
+        for (Map.Entry<Integer, List<Beer>> group : byShard.entrySet()) {
+            for (Object beer : (Iterable<?>) onShard(joinPoint, group.getKey(), group.getValue())) {
+                directory.register(((Beer) beer).getId(), ((Beer) beer).getName(), group.getKey());
+                saved.add((Beer) beer);
+            }
+        }
+        return saved;
+    }
+
+    private Object findById(ProceedingJoinPoint joinPoint, Long id) throws Throwable {
+        Integer shard = directory.shardOfId(id);
+        if (shard == null) {
+            return joinPoint.getSignature().getName().equals("existsById") ? Boolean.FALSE : Optional.empty();
+        }
+        return onShard(joinPoint, shard);
+    }
+
+    private Object findAllById(ProceedingJoinPoint joinPoint, Iterable<?> ids) throws Throwable {
+        Map<Integer, List<Long>> byShard = new TreeMap<>();
+        for (Object id : ids) {
+            Integer shard = directory.shardOfId((Long) id);
+            if (shard != null) {
+                byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add((Long) id);
+            }
+        }
+        List<Object> found = new ArrayList<>();
+        for (Map.Entry<Integer, List<Long>> group : byShard.entrySet()) {
+            found.addAll((Collection<?>) onShard(joinPoint, group.getKey(), group.getValue()));
+        }
+        return found;
+    }
+
+    private Object delete(ProceedingJoinPoint joinPoint, Long id) throws Throwable {
+        Object result = onShard(joinPoint, shardOfId(id));
+        removeAfterCommit(Collections.singletonList(id));
+        return result;
+    }
+
+    private Object deleteAll(ProceedingJoinPoint joinPoint, Iterable<?> beers) throws Throwable {
+        Map<Integer, List<Beer>> byShard = new TreeMap<>();
+        for (Object beer : beers) {
+            byShard.computeIfAbsent(shardOfId(((Beer) beer).getId()), key -> new ArrayList<>()).add((Beer) beer);
+        }
+        for (Map.Entry<Integer, List<Beer>> group : byShard.entrySet()) {
+            onShard(joinPoint, group.getKey(), group.getValue());
+            removeAfterCommit(group.getValue().stream().map(Beer::getId).collect(Collectors.toList()));
+        }
+        return null;
+    }
+
+    // Shard by shard on the calling thread rather than fanned out, so a surrounding transaction still fails fast
+    // on the second shard instead of having the other shards deleted outside it.
+    private Object deleteEverywhere(ProceedingJoinPoint joinPoint) throws Throwable {
+        for (int shard = 0; shard < shardSet.size(); shard++) {
+            onShard(joinPoint, shard);
+            removeAfterCommit(directory.idsOn(shard));
+        }
+        return null;
+    }
+
+    private void removeAfterCommit(Collection<?> ids) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(id -> directory.remove((Long) id));
+                }
+            });
+        } else {
+            ids.forEach(id -> directory.remove((Long) id));
+        }
+    }
+
+    private Object onShardOfIds(ProceedingJoinPoint joinPoint, Collection<?> ids) throws Throwable {
+        Integer shard = null;
+        for (Object id : ids) {
+            Integer shardOfId = directory.shardOfId((Long) id);
+            if (shard == null) {
+                shard = shardOfId;
+            } else if (shardOfId != null && !shard.equals(shardOfId)) {
+                throw new IllegalStateException(joinPoint.getSignature().toShortString()
+                        + " was given ids on shards " + shard + " and " + shardOfId);
+            }
+        }
+        boolean delete = joinPoint.getSignature().getName().equals("deleteByIdIn");
+        if (shard == null) {
+            return delete ? 0 : new ArrayList<>();
+        }
+        Object result = onShard(joinPoint, shard);
+        if (delete) {
+            removeAfterCommit(new ArrayList<>(ids));
+        }
+        return result;
+    }
+
+    private static List<Object> concat(List<Object> shardResults) {
+        List<Object> merged = new ArrayList<>();
+        for (Object shardResult : shardResults) {
+            merged.addAll((Collection<?>) shardResult);
+        }
+        return merged;
+    }
+
+    private Object findAll(ProceedingJoinPoint joinPoint, Object[] args) {
+        Object last = args.length == 0 ? null : args[args.length - 1];
+        if (last instanceof Pageable && ((Pageable) last).isPaged()) {
+            return findPage(joinPoint, args, (Pageable) last);
+        }
+        if (last instanceof Pageable) {
+            return new PageImpl<>(merge(shardSet.fanOut(shard -> proceed(joinPoint)), ((Pageable) last).getSort()));
+        }
+        return merge(shardSet.fanOut(shard -> proceed(joinPoint)), last instanceof Sort ? (Sort) last : Sort.unsorted());
+    }
+
+    // Every shard returns its first offset + size rows in the requested order; the page is cut from their merge.
+    private Object findPage(ProceedingJoinPoint joinPoint, Object[] args, Pageable pageable) {
+        Object[] firstRows = args.clone();
+        firstRows[args.length - 1] = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(), pageable.getSort());
+        List<Page<?>> pages = shardSet.fanOut(shard -> (Page<?>) proceed(joinPoint, firstRows));
+        List<Beer> merged = merge(pages, pageable.getSort());
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, total);
+    }
+
+    private Object findOne(ProceedingJoinPoint joinPoint) {
+        Optional<?> found = Optional.empty();
+        for (Object shardResult : shardSet.fanOut(shard -> proceed(joinPoint))) {
+            if (((Optional<?>) shardResult).isPresent()) {
+                if (found.isPresent()) {
+                    throw new IncorrectResultSizeDataAccessException(1);
+                }
+                found = (Optional<?>) shardResult;
+            }
+        }
+        return found;
+    }
+
+    private static List<Beer> merge(List<?> shardResults, Sort sort) {
+        List<Beer> merged = new ArrayList<>();
+        for (Object shardResult : shardResults) {
+            for (Object beer : (Iterable<?>) shardResult) {
+                merged.add((Beer) beer);
+            }
+        }
+        merged.sort(comparator(sort));
+        return merged;
+    }
+
+    private static Comparator<Beer> comparator(Sort sort) {
+        Comparator<Beer> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Beer> next = new PropertyComparator<>(order.getProperty(), order.isIgnoreCase(), order.isAscending());
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Beer> byId = Comparator.comparing(Beer::getId);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private int shardOfId(Long id) {
+        Integer shard = directory.shardOfId(id);
+        return shard == null ? 0 : shard;
+    }
+
+    private int shardOfName(String name) {
+        Integer shard = directory.shardOfName(name);
+        return shard == null ? directory.placementFor(name) : shard;
+    }
+
+    private Object onShard(ProceedingJoinPoint joinPoint, int shard) throws Throwable {
+        return onShard(joinPoint, shard, null);
+    }
+
+    private Object onShard(ProceedingJoinPoint joinPoint, int shard, Object argument) throws Throwable {
+        Object[] args = argument == null ? joinPoint.getArgs() : new Object[] {argument};
+        Integer bound = ShardContext.current();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (bound == null) {
+                ShardContext.set(shard);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        ShardContext.set(null);
+                    }
+                });
+            } else if (bound != shard) {
+                throw new IllegalStateException("Transaction is bound to shard " + bound + " but "
+                        + joinPoint.getSignature().toShortString() + " needs shard " + shard);
+            }
+            return joinPoint.proceed(args);
+        }
+        ShardContext.set(shard);
+        try {
+            return joinPoint.proceed(args);
+        } finally {
+            ShardContext.set(bound);
+        }
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        return proceed(joinPoint, joinPoint.getArgs());
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, Object[] args) {
+        try {
+            return joinPoint.proceed(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
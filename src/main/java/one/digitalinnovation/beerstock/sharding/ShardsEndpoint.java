@@ -0,0 +1,44 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+    private final ShardSet shardSet;
+    private final ShardRebalancer rebalancer;
+
+    public ShardsEndpoint(ShardSet shardSet, ShardRebalancer rebalancer) {
+        this.shardSet = shardSet;
+        this.rebalancer = rebalancer;
+    }
+
+    @ReadOperation
+    public Map<String, Object> shards() {
+        List<Map<String, Object>> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardSet.size(); shard++) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("shard", shard);
+            entry.put("beers", shardSet.getDirectory().countOn(shard));
+            shards.add(entry);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("shards", shards);
+        result.put("misplaced", rebalancer.misplaced());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebalance() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("moved", rebalancer.rebalance());
+        return result;
+    }
+}
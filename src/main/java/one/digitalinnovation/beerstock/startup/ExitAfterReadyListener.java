@@ -0,0 +1,21 @@
+package one.digitalinnovation.beerstock.startup;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shuts the application down as soon as it is ready. Used by the {@code appcds} build profile to record the
+ * classes loaded during a full startup without serving traffic.
+ */
+@Component
+@ConditionalOnProperty("beerstock.startup.exit-after-ready")
+public class ExitAfterReadyListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
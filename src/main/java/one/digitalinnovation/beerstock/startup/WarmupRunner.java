@@ -0,0 +1,75 @@
+package one.digitalinnovation.beerstock.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.WarmupProperties;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the hot read paths (JPA queries, mapping and JSON serialization) before the application reports
+ * readiness: runners complete before Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}.
+ * Each iteration reads one bounded page rather than the whole catalog, so warm-up cost does not grow with it.
+ * Lookups go straight to the repository so warm-up traffic does not show up in the hot-key statistics.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("beerstock.warmup.enabled")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class WarmupRunner implements ApplicationRunner {
+
+    private final BeerRepository beerRepository;
+    private final ObjectMapper objectMapper;
+    private final WarmupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        BeerMapper beerMapper = BeerMapper.INSTANCE;
+        List<BeerDTO> synthetic = synthetic(properties.getPageSize());
+        PageRequest firstPage = PageRequest.of(0, properties.getPageSize(), Sort.by("id"));
+        for (int iteration = 0; iteration < properties.getIterations(); iteration++) {
+            List<BeerDTO> page = beerRepository.findAll(firstPage).map(beerMapper::toDTO).getContent();
+            List<BeerDTO> beers = page.isEmpty() ? synthetic : page;
+            objectMapper.writeValueAsBytes(beers);
+            for (BeerDTO beer : beers.subList(0, Math.min(properties.getLookups(), beers.size()))) {
+                beerRepository.findByName(beer.getName())
+                        .map(beerMapper::toDTO)
+                        .ifPresent(this::serialize);
+            }
+        }
+        log.info("Warm-up finished after {} iterations in {} ms", properties.getIterations(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // Stand-ins so serialization is exercised even when the catalog is still empty.
+    private static List<BeerDTO> synthetic(int count) {
+        List<BeerDTO> beers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            beers.add(new BeerDTO((long) -i - 1, "Warm-up " + i, "Warm-up", 100, i % 100, BeerType.values()[i % BeerType.values().length]));
+        }
+        return beers;
+    }
+
+    private void serialize(BeerDTO beerDTO) {
+        try {
+            objectMapper.writeValueAsBytes(beerDTO);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package one.digitalinnovation.beerstock.watch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.digitalinnovation.beerstock.config.WatchProperties;
+import one.digitalinnovation.beerstock.dto.BeerWatchDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.event.BeerChangeListener;
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-poll watches on single beers. A watch whose version matches the beer's current one is parked as a
+ * {@link DeferredResult}, which holds no thread, and is completed straight from the committed change event; waiting
+ * costs no queries. The version is the beer's row version, written under the row lock, so it orders changes by
+ * commit even when their events arrive out of order; an event that is not newer than what is tracked is dropped.
+ * A watch with any other version is answered at once, including versions from before a restart. Beers nobody waits
+ * on may be forgotten to bound memory and are read back from the database on the next watch. Only beers seen in a
+ * change or confirmed to exist are tracked.
+ */
+@Service
+@Profile("!reactive")
+public class BeerWatchService implements BeerChangeListener {
+
+    private final BeerRepository beerRepository;
+    private final WatchProperties properties;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+    private final Map<Long, Watched> watched = new ConcurrentHashMap<>();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public BeerWatchService(BeerRepository beerRepository, WatchProperties properties, MeterRegistry meterRegistry) {
+        this.beerRepository = beerRepository;
+        this.properties = properties;
+        Gauge.builder("beerstock.watch.waiters", waiters, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public DeferredResult<ResponseEntity<BeerWatchDTO>> watch(Long id, Long sinceVersion, long timeoutMillis)
+            throws BeerNotFoundException {
+        long timeout = Math.max(1, Math.min(timeoutMillis, properties.getMaxTimeoutMillis()));
+        DeferredResult<ResponseEntity<BeerWatchDTO>> result = new DeferredResult<>(timeout);
+        if (sinceVersion == null) {
+            result.setResult(ResponseEntity.ok(lookup(id)));
+            return result;
+        }
+        while (true) {
+            // Registered before the row is read, so a change committed after the read finds it and is not missed.
+            Watched entry = watched.computeIfAbsent(id, key -> new Watched());
+            boolean loaded;
+            synchronized (entry) {
+                if (entry.forgotten) {
+                    continue;
+                }
+                loaded = entry.beer != null;
+            }
+            if (!loaded) {
+                Beer current = beerRepository.findById(id).orElse(null);
+                synchronized (entry) {
+                    if (current != null) {
+                        entry.apply(versionOf(current), current, false);
+                    } else if (entry.beer == null) {
+                        // Only beers known to exist are tracked, so watches on made-up ids cannot grow the registry.
+                        entry.forgotten = true;
+                        watched.remove(id, entry);
+                        throw new BeerNotFoundException(id);
+                    }
+                }
+            }
+            synchronized (entry) {
+                if (entry.forgotten) {
+                    continue;
+                }
+                if (entry.deleted && entry.version <= sinceVersion) {
+                    throw new BeerNotFoundException(id);
+                }
+                if (entry.version != sinceVersion) {
+                    result.setResult(ResponseEntity.ok(entry.toDTO(beerMapper)));
+                    return result;
+                }
+                if (waiters.incrementAndGet() > properties.getMaxWaiters()) {
+                    waiters.decrementAndGet();
+                    result.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                    return result;
+                }
+                entry.waiters.add(result);
+            }
+            Watched parked = entry;
+            result.onTimeout(() -> result.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+            result.onCompletion(() -> {
+                synchronized (parked) {
+                    if (parked.waiters.remove(result)) {
+                        waiters.decrementAndGet();
+                    }
+                }
+            });
+            if (watched.size() > properties.getMaxTrackedBeers()) {
+                forgetIdle();
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public void onBeerChange(BeerChangeEvent event) {
+        Beer beer = event.getBeer();
+        List<DeferredResult<ResponseEntity<BeerWatchDTO>>> woken;
+        BeerWatchDTO change;
+        while (true) {
+            Watched entry = watched.computeIfAbsent(beer.getId(), key -> new Watched());
+            synchronized (entry) {
+                if (entry.forgotten) {
+                    continue;
+                }
+                if (!entry.apply(event.getVersion(), beer, event.getType() == BeerChangeEvent.Type.DELETED)) {
+                    return;
+                }
+                change = entry.toDTO(beerMapper);
+                woken = new ArrayList<>(entry.waiters);
+                waiters.addAndGet(-woken.size());
+                entry.waiters.clear();
+            }
+            break;
+        }
+        ResponseEntity<BeerWatchDTO> response = ResponseEntity.ok(change);
+        woken.forEach(result -> result.setResult(response));
+        if (watched.size() > properties.getMaxTrackedBeers()) {
+            forgetIdle();
+        }
+    }
+
+    private BeerWatchDTO lookup(Long id) throws BeerNotFoundException {
+        Beer beer = beerRepository.findById(id).orElseThrow(() -> new BeerNotFoundException(id));
+        return BeerWatchDTO.builder()
+                .version(versionOf(beer))
+                .beer(beerMapper.toDTO(beer))
+                .build();
+    }
+
+    private static long versionOf(Beer beer) {
+        return beer.getVersion() == null ? 0 : beer.getVersion();
+    }
+
+    private void forgetIdle() {
+        int excess = watched.size() - properties.getMaxTrackedBeers() * 3 / 4;
+        Iterator<Watched> entries = watched.values().iterator();
+        while (excess > 0 && entries.hasNext()) {
+            Watched entry = entries.next();
+            synchronized (entry) {
+                if (entry.waiters.isEmpty()) {
+                    entry.forgotten = true;
+                    entries.remove();
+                    excess--;
+                }
+            }
+        }
+    }
+
+    private static final class Watched {
+
+        final List<DeferredResult<ResponseEntity<BeerWatchDTO>>> waiters = new ArrayList<>(1);
+        long version;
+        Beer beer;
+        boolean deleted;
+        boolean forgotten;
+
+        // Takes the change only if it is newer than the tracked state, so a late event can neither roll the quantity
+        // back nor undo a deletion.
+        boolean apply(long version, Beer beer, boolean deleted) {
+            if (this.beer != null && version <= this.version) {
+                return false;
+            }
+            this.version = version;
+            this.beer = beer;
+            this.deleted = deleted;
+            return true;
+        }
+
+        BeerWatchDTO toDTO(BeerMapper beerMapper) {
+            return BeerWatchDTO.builder()
+                    .version(version)
+                    .deleted(deleted)
+                    .beer(beerMapper.toDTO(beer))
+                    .build();
+        }
+    }
+}
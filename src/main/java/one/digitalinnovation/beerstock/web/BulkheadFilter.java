@@ -0,0 +1,87 @@
+package one.digitalinnovation.beerstock.web;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import one.digitalinnovation.beerstock.config.BulkheadProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "beerstock.bulkhead.enabled", matchIfMissing = true)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Map<RequestLane, Bulkhead> bulkheads = new EnumMap<>(RequestLane.class);
+    private final String retryAfterSeconds;
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        this.retryAfterSeconds = String.valueOf(properties.getRetryAfterSeconds());
+        int connectionBudget = 0;
+        for (RequestLane lane : RequestLane.values()) {
+            BulkheadProperties.Lane laneProperties = properties.getLane(lane);
+            Bulkhead bulkhead = new Bulkhead(laneProperties.getMaxConcurrent(), laneProperties.getMaxQueued(),
+                    laneProperties.getMaxWaitMillis());
+            bulkheads.put(lane, bulkhead);
+            connectionBudget += laneProperties.getMaxConcurrent();
+            registerMetrics(meterRegistry, lane, bulkhead);
+        }
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        if (connectionBudget > poolSize) {
+            log.warn("Bulkhead lanes admit {} concurrent requests but the connection pool only holds {}; "
+                    + "lanes can still starve each other for connections", connectionBudget, poolSize);
+        }
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, RequestLane lane, Bulkhead bulkhead) {
+        String laneTag = lane.name().toLowerCase();
+        Gauge.builder("beerstock.bulkhead.active", bulkhead, Bulkhead::getActive)
+                .tag("lane", laneTag)
+                .register(meterRegistry);
+        Gauge.builder("beerstock.bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                .tag("lane", laneTag)
+                .register(meterRegistry);
+        Gauge.builder("beerstock.bulkhead.saturation", bulkhead, Bulkhead::getSaturation)
+                .tag("lane", laneTag)
+                .register(meterRegistry);
+        FunctionCounter.builder("beerstock.bulkhead.rejected", bulkhead, Bulkhead::getRejected)
+                .tag("lane", laneTag)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestLane lane = RequestLane.classify(request);
+        if (lane == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Bulkhead bulkhead = bulkheads.get(lane);
+        if (!bulkhead.tryEnter()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent requests in lane " + lane);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.exit();
+        }
+    }
+}
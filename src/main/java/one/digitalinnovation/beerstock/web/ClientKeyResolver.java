@@ -0,0 +1,20 @@
+package one.digitalinnovation.beerstock.web;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class ClientKeyResolver {
+
+    private final String apiKeyHeader;
+
+    public ClientKeyResolver(String apiKeyHeader) {
+        this.apiKeyHeader = apiKeyHeader;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null && !apiKey.isEmpty()) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,76 @@
+package one.digitalinnovation.beerstock.web;
+
+import one.digitalinnovation.beerstock.exception.DomainException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Answers domain failures with a small JSON body written straight to the response, instead of the default
+ * resolution that sends an error and forwards to the {@code /error} page. The status comes from the exception's
+ * {@link ResponseStatus}; the fixed part of each body is built once per exception class.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty("beerstock.errors.compact")
+public class CompactErrorHandler {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private static final ClassValue<Template> TEMPLATES = new ClassValue<Template>() {
+        @Override
+        protected Template computeValue(Class<?> type) {
+            ResponseStatus annotation = AnnotatedElementUtils.findMergedAnnotation(type, ResponseStatus.class);
+            return new Template(annotation == null ? HttpStatus.INTERNAL_SERVER_ERROR : annotation.code());
+        }
+    };
+
+    @ExceptionHandler(DomainException.class)
+    public void handle(DomainException exception, HttpServletResponse response) throws IOException {
+        Template template = TEMPLATES.get(exception.getClass());
+        StringBuilder message = new StringBuilder(96);
+        exception.appendMessage(message);
+        StringBuilder body = new StringBuilder(template.prefix.length() + message.length() + 8).append(template.prefix);
+        appendEscaped(message, body);
+        byte[] bytes = body.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+
+        response.setStatus(template.status);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    // Messages carry client input such as beer names, so quotes, backslashes and control characters are escaped.
+    private static void appendEscaped(CharSequence value, StringBuilder target) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                target.append('\\').append(c);
+            } else if (c < 0x20) {
+                target.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                target.append(c);
+            }
+        }
+    }
+
+    private static final class Template {
+
+        final int status;
+        final String prefix;
+
+        Template(HttpStatus status) {
+            this.status = status.value();
+            this.prefix = "{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"";
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package one.digitalinnovation.beerstock.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import one.digitalinnovation.beerstock.config.RateLimitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "beerstock.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ClientKeyResolver clientKeyResolver;
+    private final Map<RequestLane, RateLimiter> limiters = new EnumMap<>(RequestLane.class);
+    private final Map<RequestLane, Counter> rejections = new EnumMap<>(RequestLane.class);
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.clientKeyResolver = new ClientKeyResolver(properties.getApiKeyHeader());
+        for (RequestLane lane : RequestLane.values()) {
+            RateLimitProperties.Budget budget = properties.getBudget(lane);
+            RateLimiter limiter = new RateLimiter(budget.getCapacity(), budget.getRefillPerSecond(),
+                    properties.getMaxClients(), System::nanoTime);
+            String laneTag = lane.name().toLowerCase();
+            limiters.put(lane, limiter);
+            rejections.put(lane, Counter.builder("beerstock.rate-limit.rejected")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry));
+            Gauge.builder("beerstock.rate-limit.clients", limiter, RateLimiter::getTrackedClients)
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestLane lane = RequestLane.classify(request);
+        if (lane == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String clientKey = clientKeyResolver.resolve(request);
+        RateLimiter limiter = limiters.get(lane);
+        if (!limiter.tryAcquire(clientKey)) {
+            rejections.get(lane).increment();
+            long waitNanos = limiter.nanosUntilNextToken(clientKey);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded for lane " + lane);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,69 @@
+package one.digitalinnovation.beerstock.web;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps one {@link TokenBucket} per client key. The map is bounded: once it grows past {@code maxClients}
+ * the thread that noticed sweeps out buckets that have refilled completely, which is lossless because a
+ * full bucket behaves exactly like a missing one. Only if that is not enough are live buckets dropped, down
+ * to a low-water mark so the sweep cost is amortized over many new clients.
+ */
+public class RateLimiter {
+
+    private final int capacity;
+    private final double refillPerSecond;
+    private final int maxClients;
+    private final int lowWaterMark;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RateLimiter(int capacity, double refillPerSecond, int maxClients, LongSupplier clock) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.maxClients = maxClients;
+        this.lowWaterMark = maxClients - Math.max(1, maxClients / 10);
+        this.clock = clock;
+    }
+
+    public boolean tryAcquire(String clientKey) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evict(now);
+            }
+            bucket = buckets.computeIfAbsent(clientKey, key -> new TokenBucket(capacity, refillPerSecond, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    public long nanosUntilNextToken(String clientKey) {
+        TokenBucket bucket = buckets.get(clientKey);
+        return bucket == null ? 0 : bucket.nanosUntilNextToken(clock.getAsLong());
+    }
+
+    public int getTrackedClients() {
+        return buckets.size();
+    }
+
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            Iterator<Map.Entry<String, TokenBucket>> iterator = buckets.entrySet().iterator();
+            while (buckets.size() > lowWaterMark && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
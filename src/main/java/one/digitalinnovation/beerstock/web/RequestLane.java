@@ -0,0 +1,51 @@
+package one.digitalinnovation.beerstock.web;
+
+import javax.servlet.http.HttpServletRequest;
+
+public enum RequestLane {
+
+    CATALOG_READ,
+    POINT_LOOKUP,
+    STOCK_MUTATION,
+    BULK_JOB;
+
+    public static final String BEER_API_PATH = "/api/v1/beers";
+
+    public static RequestLane classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(BEER_API_PATH)) {
+            return null;
+        }
+        String subPath = path.substring(BEER_API_PATH.length());
+        if (!subPath.isEmpty() && subPath.charAt(0) != '/') {
+            return null;
+        }
+        String[] segments = subPath.isEmpty() ? new String[0] : subPath.substring(1).split("/");
+        if (!"GET".equals(request.getMethod())) {
+            return isBulkJob(segments) ? BULK_JOB : STOCK_MUTATION;
+        }
+        if (segments.length == 0 || segments[0].isEmpty()) {
+            return CATALOG_READ;
+        }
+        return isScan(segments) ? CATALOG_READ : POINT_LOOKUP;
+    }
+
+    // Imports stream whole CSV uploads to disk on the request thread and reports queue catalog-wide work, so their
+    // commands get a lane of their own instead of holding stock-mutation permits for the length of a transfer.
+    private static boolean isBulkJob(String[] segments) {
+        return segments.length > 0 && ("imports".equals(segments[0]) || "reports".equals(segments[0]));
+    }
+
+    // Reads that walk the whole catalog or stream a whole report belong to the catalog lane even when their path
+    // names a single resource. Watches join them so long-poll traffic cannot drain the point-lookup budget.
+    private static boolean isScan(String[] segments) {
+        switch (segments[0]) {
+            case "search":
+            case "filter":
+                return segments.length == 1;
+            default:
+                String last = segments[segments.length - 1];
+                return segments.length > 1 && ("download".equals(last) || "watch".equals(last));
+        }
+    }
+}
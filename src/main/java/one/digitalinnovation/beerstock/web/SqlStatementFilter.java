@@ -0,0 +1,108 @@
+package one.digitalinnovation.beerstock.web;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import one.digitalinnovation.beerstock.config.SqlStatsProperties;
+import one.digitalinnovation.beerstock.monitoring.SqlStatementStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 200)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "beerstock.sql-stats.enabled", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Micros";
+
+    private static final String TOTALS_ATTRIBUTE = SqlStatementFilter.class.getName() + ".totals";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean debugHeaders;
+
+    public SqlStatementFilter(SqlStatsProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.debugHeaders = properties.isDebugHeaders();
+    }
+
+    // Async requests such as watches run in several dispatches, on different threads; each is counted and the
+    // request is recorded once, when the last one ends.
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Headers have to be set before the body commits the response, so debug mode buffers the body.
+        ContentCachingResponseWrapper buffered = null;
+        if (debugHeaders) {
+            buffered = isAsyncDispatch(request)
+                    ? WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class)
+                    : new ContentCachingResponseWrapper(response);
+        }
+        Totals totals = (Totals) request.getAttribute(TOTALS_ATTRIBUTE);
+        if (totals == null) {
+            totals = new Totals();
+        }
+        SqlStatementStats stats = SqlStatementStats.start();
+        try {
+            filterChain.doFilter(request, buffered == null ? response : buffered);
+        } finally {
+            stats.close();
+            totals.statements += stats.getStatements();
+            totals.nanos += stats.getNanos();
+            if (isAsyncStarted(request)) {
+                request.setAttribute(TOTALS_ATTRIBUTE, totals);
+            } else {
+                request.removeAttribute(TOTALS_ATTRIBUTE);
+                record(request, totals);
+                if (buffered != null) {
+                    buffered.setHeader(STATEMENTS_HEADER, String.valueOf(totals.statements));
+                    buffered.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMicros(totals.nanos)));
+                    buffered.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, Totals totals) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("beerstock.sql.request.statements")
+                .description("JDBC statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(totals.statements);
+        Timer.builder("beerstock.sql.request.time")
+                .description("Time spent in JDBC statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(totals.nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Totals {
+
+        int statements;
+        long nanos;
+    }
+}
@@ -0,0 +1,80 @@
+package one.digitalinnovation.beerstock.audit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import one.digitalinnovation.beerstock.config.AuditProperties;
+import one.digitalinnovation.beerstock.config.RateLimitProperties;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+
+class AuditLogTest {
+
+	@Test
+	void whenAuditFileCannotBeOpenedThenHealthIsDownUntilTheWriterRecovers(@TempDir Path temp) throws Exception {
+		// given
+		Path directory = temp.resolve("audit");
+		Files.createFile(directory);
+		AuditProperties properties = new AuditProperties();
+		properties.setDirectory(directory);
+		properties.setRetryInitialMillis(10);
+		properties.setRetryMaxMillis(50);
+		AuditLog auditLog = new AuditLog(properties, new RateLimitProperties(), new SimpleMeterRegistry());
+		AuditHealthIndicator health = new AuditHealthIndicator(auditLog);
+
+		try {
+			// when
+			auditLog.onBeerChange(BeerChangeEvent.created(new Beer(1L, "Brahma", "Ambev", 50, 10, BeerType.LAGER)));
+			await(() -> auditLog.getFailure() != null);
+
+			// then
+			assertThat(health.health().getStatus(), is(equalTo(Status.DOWN)));
+			assertThat(auditLog.getQueueDepth(), is(equalTo(1L)));
+
+			// when
+			Files.delete(directory);
+			await(() -> auditLog.getFailure() == null && auditLog.getQueueDepth() == 0);
+
+			// then
+			assertThat(health.health().getStatus(), is(equalTo(Status.UP)));
+			assertThat(auditLog.getDropped(), is(equalTo(0L)));
+			assertThat(contents(directory), containsString("\"beerId\":1,\"beer\":\"Brahma\""));
+		} finally {
+			auditLog.shutdown();
+		}
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		for (int attempt = 0; attempt < 500 && !condition.getAsBoolean(); attempt++) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean(), is(true));
+	}
+
+	private static String contents(Path directory) throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> {
+				try {
+					return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}).collect(Collectors.joining());
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package one.digitalinnovation.beerstock.audit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditRingBufferTest {
+
+	@Test
+	void whenProducersOfferConcurrentlyThenConsumerSeesEveryRecordInSequenceOrder() throws Exception {
+		// given
+		int producers = 4;
+		int perProducer = 25_000;
+		AuditRingBuffer ring = new AuditRingBuffer(producers * perProducer);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+
+		// when
+		for (int p = 0; p < producers; p++) {
+			int producer = p;
+			executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < perProducer; i++) {
+					ring.offer(i, AuditAction.INCREMENT, producer, "beer", "actor", 1, i, i + 1);
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+		List<Long> sequences = new ArrayList<>();
+		long[] lastPerProducer = {-1, -1, -1, -1};
+		boolean[] ordered = {true};
+		ring.drain(Integer.MAX_VALUE, record -> {
+			sequences.add(record.getSequence());
+			int producer = (int) record.getBeerId();
+			ordered[0] &= record.getBefore() == lastPerProducer[producer] + 1;
+			lastPerProducer[producer] = record.getBefore();
+		});
+
+		// then
+		assertThat(sequences.size(), is(equalTo(producers * perProducer)));
+		for (int i = 0; i < sequences.size(); i++) {
+			assertThat(sequences.get(i), is(equalTo((long) i)));
+		}
+		assertThat(ordered[0], is(true));
+		assertThat(ring.depth(), is(equalTo(0L)));
+	}
+
+	@Test
+	void whenRingIsFullThenOfferIsRefusedUntilConsumerDrains() {
+		// given
+		AuditRingBuffer ring = new AuditRingBuffer(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(ring.offer(i, AuditAction.CREATE, i, "beer", "actor", 1, 0, 1), is(true));
+		}
+
+		// when
+		boolean refused = !ring.offer(4, AuditAction.CREATE, 4, "beer", "actor", 1, 0, 1);
+		int drained = ring.drain(2, record -> {
+		});
+
+		// then
+		assertThat(refused, is(true));
+		assertThat(drained, is(equalTo(2)));
+		assertThat(ring.offer(5, AuditAction.CREATE, 5, "beer", "actor", 1, 0, 1), is(true));
+		assertThat(ring.depth(), is(equalTo(3L)));
+	}
+
+	@Test
+	void whenFileExceedsMaximumSizeThenWriterRollsAndKeepsNewestFiles(@TempDir Path directory) throws IOException {
+		// given
+		AuditFileWriter writer = new AuditFileWriter(directory, 512, 3, false);
+		AuditRingBuffer ring = new AuditRingBuffer(64);
+		for (int i = 0; i < 50; i++) {
+			ring.offer(i, AuditAction.DECREMENT, i, "Brahma \"Chopp\"", "ip:127.0.0.1", -1, 10, 9);
+		}
+
+		// when
+		ring.drain(64, record -> {
+			try {
+				writer.write(record);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		writer.close();
+
+		// then
+		List<Path> files;
+		try (Stream<Path> listing = Files.list(directory)) {
+			files = listing.sorted().collect(Collectors.toList());
+		}
+		assertThat(files.size(), is(equalTo(3)));
+		List<String> lastLines = Files.readAllLines(files.get(2));
+		assertThat(lastLines.get(lastLines.size() - 1), is(equalTo(
+				"{\"seq\":49,\"ts\":\"1970-01-01T00:00:00.049Z\",\"action\":\"DECREMENT\",\"beerId\":49,"
+						+ "\"beer\":\"Brahma \\\"Chopp\\\"\",\"actor\":\"ip:127.0.0.1\",\"delta\":-1,\"before\":10,\"after\":9}")));
+	}
+}
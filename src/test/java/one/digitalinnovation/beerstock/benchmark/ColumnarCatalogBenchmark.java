@@ -0,0 +1,89 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.catalog.ColumnarCatalog;
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+@Tag("benchmark")
+class ColumnarCatalogBenchmark {
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+	private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 50);
+
+	@Test
+	void measureFootprintAndScanThroughput() {
+		BeerType[] types = BeerType.values();
+		String[] names = new String[ROWS];
+		for (int i = 0; i < ROWS; i++) {
+			names[i] = "Beer " + i;
+		}
+
+		long baseline = usedHeap();
+		List<Beer> entities = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			entities.add(new Beer((long) i, names[i], "Brand " + (i % 5_000), 500, i % 100, types[i % types.length]));
+		}
+		long entityBytes = usedHeap() - baseline;
+
+		baseline = usedHeap();
+		ColumnarCatalog catalog = new ColumnarCatalog();
+		for (Beer beer : entities) {
+			catalog.put(beer);
+		}
+		long columnarBytes = usedHeap() - baseline;
+		System.out.println(String.format("footprint rows=%d entities=%dMB columnar=%dMB (columns only ~%dMB)", ROWS,
+				entityBytes >> 20, columnarBytes >> 20, catalog.estimatedColumnBytes() >> 20));
+
+		BeerFilterDTO stoutsAboveTen = BeerFilterDTO.builder().type(BeerType.STOUT).minQuantity(11).build();
+		BeerFilterDTO brandInRange = BeerFilterDTO.builder().brand("Brand 42").minQuantity(40).maxQuantity(60).build();
+		BeerFilterDTO anyAboveNinety = BeerFilterDTO.builder().minQuantity(91).build();
+		for (BeerFilterDTO filter : new BeerFilterDTO[] { stoutsAboveTen, brandInRange, anyAboveNinety }) {
+			long expected = entities.stream().filter(beer -> matches(filter, beer)).count();
+			assertThat(catalog.count(filter), is(equalTo(expected)));
+			report("entity stream", filter, () -> entities.stream().filter(beer -> matches(filter, beer)).count());
+			report("columnar", filter, () -> catalog.count(filter));
+		}
+	}
+
+	private static boolean matches(BeerFilterDTO filter, Beer beer) {
+		return (filter.getType() == null || filter.getType() == beer.getType())
+				&& (filter.getBrand() == null || filter.getBrand().equals(beer.getBrand()))
+				&& beer.getQuantity() >= filter.getMinQuantity()
+				&& beer.getQuantity() <= filter.getMaxQuantity();
+	}
+
+	private static void report(String scenario, BeerFilterDTO filter, LongSupplier scan) {
+		for (int i = 0; i < ROUNDS / 5; i++) {
+			scan.getAsLong();
+		}
+		long begin = System.nanoTime();
+		long matches = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			matches = scan.getAsLong();
+		}
+		double millis = (System.nanoTime() - begin) / 1e6 / ROUNDS;
+		System.out.println(String.format("%-14s type=%-6s brand=%-9s qty=[%d,%d] matches=%-7d %.2fms/scan %.0fM rows/s",
+				scenario, filter.getType(), filter.getBrand(), filter.getMinQuantity(), filter.getMaxQuantity(), matches,
+				millis, ROWS / millis / 1_000));
+	}
+
+	private static long usedHeap() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
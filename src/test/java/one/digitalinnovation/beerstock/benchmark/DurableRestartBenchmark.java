@@ -0,0 +1,68 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import one.digitalinnovation.beerstock.BeerstockApplication;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.persistence.BeerSnapshot;
+
+@Tag("benchmark")
+class DurableRestartBenchmark {
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+
+	@TempDir
+	Path dataDirectory;
+
+	@Test
+	void measureRestartToReadyForLargeCatalog() throws IOException {
+		long start = System.nanoTime();
+		BeerType[] types = BeerType.values();
+		try (BeerSnapshot.Writer writer = BeerSnapshot.create(dataDirectory.resolve("beer.snapshot"))) {
+			for (int i = 1; i <= ROWS; i++) {
+				writer.append(new Beer((long) i, "Beer " + i, "Brand " + (i % 5_000), 500, i % 100, types[i % types.length]));
+			}
+			writer.commit();
+		}
+		System.out.println(String.format("snapshot        rows=%d size=%dMB written in %dms", ROWS,
+				Files.size(dataDirectory.resolve("beer.snapshot")) >> 20, elapsedMillis(start)));
+
+		startAndReport("cold start from snapshot");
+		startAndReport("warm restart from H2 file");
+	}
+
+	private void startAndReport(String scenario) {
+		long start = System.nanoTime();
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BeerstockApplication.class)
+				.profiles("durable")
+				.run("--server.port=0", "--beerstock.data-dir=" + dataDirectory.toAbsolutePath(),
+						"--spring.devtools.restart.enabled=false");
+		try {
+			long readyMillis = elapsedMillis(start);
+			Integer rows = context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM beer", Integer.class);
+			assertThat(rows, is(equalTo(ROWS)));
+			System.out.println(String.format("%-25s rows=%d restart-to-ready=%dms", scenario, rows, readyMillis));
+		} finally {
+			context.close();
+		}
+	}
+
+	private static long elapsedMillis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+}
@@ -0,0 +1,216 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+
+import one.digitalinnovation.beerstock.BeerstockApplication;
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+import one.digitalinnovation.beerstock.util.JsonUtils;
+
+@Tag("benchmark")
+class ErrorPathBenchmark {
+
+	private static final int CONSTRUCTIONS = Integer.getInteger("benchmark.constructions", 1_000_000);
+	private static final int STACK_DEPTH = Integer.getInteger("benchmark.stackDepth", 120);
+	private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+	private static final int REQUESTS = Integer.getInteger("benchmark.requests", 100_000);
+
+	private static final ThreadMXBean THREADS_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Test
+	void compareExceptionConstructionCost() {
+		// Warm both paths, then measure at a depth close to a request thread inside Tomcat and Spring MVC.
+		construct(CONSTRUCTIONS / 10, true);
+		construct(CONSTRUCTIONS / 10, false);
+		construct(CONSTRUCTIONS, true);
+		construct(CONSTRUCTIONS, false);
+	}
+
+	@Test
+	void compareFailurePathThroughputAgainstResponseStatusResolution() throws Exception {
+		serve("stack trace + /error", false, true);
+		serve("stackless + /error", false, false);
+		serve("compact error handler", true, false);
+	}
+
+	private void construct(int count, boolean withStackTrace) {
+		long allocatedBefore = THREADS_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+		long begin = System.nanoTime();
+		long sink = atDepth(STACK_DEPTH, count, withStackTrace);
+		long elapsed = System.nanoTime() - begin;
+		long allocated = THREADS_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+		System.out.println(String.format("%-26s depth=%d ops=%d cost=%.0f ns/op alloc=%d B/op (%d)",
+				withStackTrace ? "stack trace + format" : "stackless + lazy message",
+				STACK_DEPTH, count, (double) elapsed / count, allocated / count, sink));
+	}
+
+	private static long atDepth(int depth, int count, boolean withStackTrace) {
+		if (depth > 0) {
+			return atDepth(depth - 1, count, withStackTrace);
+		}
+		long sink = 0;
+		for (int i = 0; i < count; i++) {
+			Exception exception = withStackTrace ? new FormattedStockExceeded((long) i, 30) : new BeerStockExceededException((long) i, 30);
+			// Every failure answered to a client has its message read, so the lazy one is built here too.
+			sink += exception.getMessage().length() & 1;
+		}
+		return sink;
+	}
+
+	private void serve(String label, boolean compact, boolean legacyExceptions) throws Exception {
+		SpringApplicationBuilder application = legacyExceptions
+				? new SpringApplicationBuilder(BeerstockApplication.class, LegacyExceptions.class)
+				: new SpringApplicationBuilder(BeerstockApplication.class);
+		ConfigurableApplicationContext context = application
+				.properties("server.port=0", "beerstock.swagger.enabled=false", "beerstock.audit.enabled=false",
+						"beerstock.rate-limit.enabled=false", "beerstock.bulkhead.enabled=false",
+						"beerstock.errors.compact=" + compact)
+				.run();
+		try {
+			String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/beers";
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(base))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(JsonUtils.asJsonString(
+							BeerDTOBuilder.builder().id(null).name("Sold Out").build().toBeerDTO())))
+					.build(), HttpResponse.BodyHandlers.ofString());
+			assertThat(created.statusCode(), is(equalTo(201)));
+			long id = new ObjectMapper().readTree(created.body()).get("id").asLong();
+
+			// Half the requests look up beers that do not exist, half try to overfill the only one.
+			HttpRequest notFound = HttpRequest.newBuilder(URI.create(base + "/missing")).GET().build();
+			HttpRequest exceeded = HttpRequest.newBuilder(URI.create(base + "/" + id + "/increment"))
+					.header("Content-Type", "application/json")
+					.method("PATCH", HttpRequest.BodyPublishers.ofString("{\"quantity\":100}"))
+					.build();
+			fire(client, new HttpRequest[] {notFound, exceeded}, REQUESTS / 10);
+			long allocatedBefore = tomcatAllocatedBytes();
+			long begin = System.nanoTime();
+			int[] statuses = fire(client, new HttpRequest[] {notFound, exceeded}, REQUESTS);
+			long elapsed = System.nanoTime() - begin;
+			long allocated = tomcatAllocatedBytes() - allocatedBefore;
+			System.out.println(String.format("%-26s threads=%d requests=%d 404=%d 400=%d throughput=%.0f req/s server-alloc=%d B/req",
+					label, THREADS, REQUESTS,
+					statuses[404], statuses[400], REQUESTS / (elapsed / 1_000_000_000.0), allocated / REQUESTS));
+		} finally {
+			context.close();
+		}
+	}
+
+	private int[] fire(HttpClient client, HttpRequest[] requests, int count) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<int[]>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				int offset = t;
+				results.add(executor.submit(() -> {
+					int[] statuses = new int[600];
+					start.await();
+					for (int i = offset; i < count; i += THREADS) {
+						statuses[client.send(requests[i % requests.length], HttpResponse.BodyHandlers.discarding()).statusCode()]++;
+					}
+					return statuses;
+				}));
+			}
+			start.countDown();
+			int[] statuses = new int[600];
+			for (Future<int[]> result : results) {
+				int[] partial = result.get();
+				for (int i = 0; i < statuses.length; i++) {
+					statuses[i] += partial[i];
+				}
+			}
+			return statuses;
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+
+	// Only Tomcat's request threads, so the client threads in this JVM are not counted.
+	private static long tomcatAllocatedBytes() {
+		long total = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith("http-nio-")) {
+				total += THREADS_BEAN.getThreadAllocatedBytes(thread.getId());
+			}
+		}
+		return total;
+	}
+
+	// The exceptions as they were before: a captured stack trace and a message formatted up front. Unchecked, so the
+	// service proxy can throw them in place of the domain exceptions without wrapping them.
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	private static class FormattedStockExceeded extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		FormattedStockExceeded(Long id, int quantityToIncrement) {
+			super(String.format("Beer with ID %s has quantity greater than stock capacity. Quantity to increment %s", id, quantityToIncrement));
+		}
+	}
+
+	@ResponseStatus(HttpStatus.NOT_FOUND)
+	private static class FormattedNotFound extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		FormattedNotFound(String name) {
+			super(String.format("Beer with name %s not found in the system.", name));
+		}
+	}
+
+	// Swaps the old exceptions in at the service boundary, where they used to be thrown. The stackless one built
+	// first costs next to nothing beside the stack trace captured after it.
+	@Aspect
+	static class LegacyExceptions {
+
+		@Around("execution(* one.digitalinnovation.beerstock.service.BeerService.findByName(..)) && args(name)")
+		public Object findByName(ProceedingJoinPoint joinPoint, String name) throws Throwable {
+			try {
+				return joinPoint.proceed();
+			} catch (BeerNotFoundException e) {
+				throw new FormattedNotFound(name);
+			}
+		}
+
+		@Around("execution(* one.digitalinnovation.beerstock.service.BeerService.increment(..)) && args(id, quantity)")
+		public Object increment(ProceedingJoinPoint joinPoint, Long id, int quantity) throws Throwable {
+			try {
+				return joinPoint.proceed();
+			} catch (BeerStockExceededException e) {
+				throw new FormattedStockExceeded(id, quantity);
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.web.RateLimiter;
+
+@Tag("benchmark")
+class RateLimiterContentionBenchmark {
+
+	private static final int OPERATIONS_PER_THREAD = Integer.getInteger("benchmark.operations", 2_000_000);
+	private static final int MAX_THREADS = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors() * 2);
+
+	@Test
+	void measureAcquireCostAsContentionRises() throws Exception {
+		for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+			report("single hot client", threads, 1);
+			report("1k clients", threads, 1_000);
+			report("200k clients (evicting)", threads, 200_000);
+		}
+	}
+
+	private void report(String scenario, int threads, int clients) throws Exception {
+		RateLimiter limiter = new RateLimiter(1_000, 1_000_000, 100_000, System::nanoTime);
+		String[] keys = new String[clients];
+		for (int i = 0; i < clients; i++) {
+			keys[i] = "ip:10.0." + (i >> 8) + "." + (i & 0xff);
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Long>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					long admitted = 0;
+					start.await();
+					for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+						if (limiter.tryAcquire(keys[random.nextInt(clients)])) {
+							admitted++;
+						}
+					}
+					return admitted;
+				}));
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			long admitted = 0;
+			for (Future<Long> result : results) {
+				admitted += result.get();
+			}
+			long elapsed = System.nanoTime() - begin;
+			long operations = (long) threads * OPERATIONS_PER_THREAD;
+			System.out.println(String.format("%-24s threads=%-3d ops=%d admitted=%d throughput=%.1f Mops/s cost=%.1f ns/op",
+					scenario, threads, operations, admitted, operations / (elapsed / 1_000.0),
+					(double) elapsed * threads / operations));
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+}
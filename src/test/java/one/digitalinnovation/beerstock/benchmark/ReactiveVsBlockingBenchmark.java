@@ -0,0 +1,134 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import one.digitalinnovation.beerstock.BeerstockApplication;
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.util.JsonUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Tag("benchmark")
+class ReactiveVsBlockingBenchmark {
+
+	private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 2000);
+	private static final int REQUESTS = Integer.getInteger("benchmark.requests", 50000);
+	private static final int BEERS = Integer.getInteger("benchmark.beers", 100);
+
+	@Test
+	void compareBlockingAndReactiveStacksUnderConcurrentConnections() {
+		Result blocking = run("default");
+		Result reactive = run("reactive");
+
+		System.out.println(blocking);
+		System.out.println(reactive);
+	}
+
+	private Result run(String profile) {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BeerstockApplication.class)
+				.profiles(profile)
+				.properties("server.port=0", "beerstock.swagger.enabled=false",
+						"beerstock.rate-limit.enabled=false", "beerstock.bulkhead.enabled=false")
+				.run();
+		ConnectionProvider connectionProvider = ConnectionProvider.builder("benchmark").maxConnections(CONNECTIONS).build();
+		try {
+			int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+			HttpClient client = HttpClient.create(connectionProvider)
+					.baseUrl("http://localhost:" + port + "/api/v1/beers");
+
+			seed(client);
+			fire(client, Math.min(REQUESTS, 5000));
+			return fire(client, REQUESTS).named(profile);
+		} finally {
+			connectionProvider.dispose();
+			context.close();
+		}
+	}
+
+	private void seed(HttpClient client) {
+		Flux.range(0, BEERS)
+				.flatMap(i -> client
+						.headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON))
+						.post()
+						.send(ByteBufFlux.fromString(Mono.just(JsonUtils.asJsonString(
+								BeerDTOBuilder.builder().id(null).name("Beer" + i).build().toBeerDTO()))))
+						.response()
+						.doOnNext(response -> assertThat(response.status().code(), is(equalTo(201)))), 16)
+				.blockLast(Duration.ofMinutes(1));
+	}
+
+	private Result fire(HttpClient client, int requests) {
+		long[] latencies = new long[requests];
+		AtomicInteger errors = new AtomicInteger();
+		long start = System.nanoTime();
+		Flux.range(0, requests)
+				.flatMap(i -> {
+					long requestStart = System.nanoTime();
+					return client.get()
+							.uri("/Beer" + (i % BEERS))
+							.responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+							.doOnNext(status -> {
+								if (status != 200) {
+									errors.incrementAndGet();
+								}
+								latencies[i] = System.nanoTime() - requestStart;
+							})
+							.onErrorResume(e -> {
+								errors.incrementAndGet();
+								return Mono.empty();
+							});
+				}, CONNECTIONS)
+				.blockLast(Duration.ofMinutes(10));
+		long elapsed = System.nanoTime() - start;
+		return new Result(requests, errors.get(), elapsed, latencies);
+	}
+
+	private static class Result {
+
+		private final int requests;
+		private final int errors;
+		private final long elapsedNanos;
+		private final long[] latencies;
+		private String name;
+
+		Result(int requests, int errors, long elapsedNanos, long[] latencies) {
+			this.requests = requests;
+			this.errors = errors;
+			this.elapsedNanos = elapsedNanos;
+			this.latencies = latencies.clone();
+			Arrays.sort(this.latencies);
+		}
+
+		Result named(String name) {
+			this.name = name;
+			return this;
+		}
+
+		private double percentileMillis(double percentile) {
+			return latencies[(int) Math.min(latencies.length - 1, latencies.length * percentile)] / 1_000_000.0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-9s connections=%d requests=%d errors=%d throughput=%.0f req/s p50=%.2fms p99=%.2fms max=%.2fms",
+					name, CONNECTIONS, requests, errors, requests / (elapsedNanos / 1_000_000_000.0),
+					percentileMillis(0.50), percentileMillis(0.99), percentileMillis(1.0));
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.search.BeerSearchIndex;
+
+@Tag("benchmark")
+class SearchIndexBenchmark {
+
+	private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+	private static final int QUERIES = Integer.getInteger("benchmark.queries", 20_000);
+
+	private static final String[] ADJECTIVES = { "Golden", "Hoppy", "Dark", "Amber", "Imperial", "Session", "Hazy",
+			"Smoked", "Wild", "Royal", "Bitter", "Crystal", "Midnight", "Summer", "Winter", "Tropical" };
+	private static final String[] STYLES = { "Lager", "Pilsner", "Stout", "Porter", "Witbier", "Weiss", "Saison",
+			"Tripel", "Dubbel", "Bock", "Pale", "Sour", "Gose", "Kolsch", "Helles", "Dunkel" };
+	private static final String[] BREWERIES = { "Ambev", "Heineken", "Colorado", "Baden", "Eisenbahn", "Bodebrown",
+			"Way", "Tupiniquim", "Dama", "Seasons", "Wals", "Invicta", "Morada", "Hocus", "Dogma", "Praya" };
+
+	private final BeerSearchIndex index = new BeerSearchIndex();
+
+	@Test
+	void measureQueryLatencyOnLargeCatalog() {
+		BeerType[] types = BeerType.values();
+		long start = System.nanoTime();
+		for (int i = 1; i <= ROWS; i++) {
+			String name = ADJECTIVES[i % ADJECTIVES.length] + " " + STYLES[(i / 16) % STYLES.length] + " " + i;
+			String brand = BREWERIES[(i / 256) % BREWERIES.length] + " " + (i % 5_000);
+			index.put(new Beer((long) i, name, brand, 500, 50, types[i % types.length]));
+		}
+		long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		System.gc();
+		long usedMb = (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) >> 20;
+		System.out.println(String.format("index           rows=%d built in %dms heap-used=%dMB", ROWS, buildMillis, usedMb));
+
+		report("exact word", "stout", null);
+		report("prefix", "hop", null);
+		report("prefix + type", "imp", BeerType.IPA);
+		report("two words", "golden pilsner", null);
+		report("brand prefix", "eisenb", null);
+		report("typo", "porterr", null);
+		report("typo in brand", "heinekem", null);
+		report("exact id word", String.valueOf(ROWS / 2), null);
+	}
+
+	private void report(String scenario, String query, BeerType type) {
+		assertThat(scenario, index.search(query, type, 20), not(empty()));
+		long[] samples = new long[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			long begin = System.nanoTime();
+			index.search(query, type, 20);
+			samples[i] = System.nanoTime() - begin;
+		}
+		Arrays.sort(samples);
+		System.out.println(String.format("%-15s q=%-16s p50=%.1fus p99=%.1fus max=%.1fus", scenario, query,
+				samples[QUERIES / 2] / 1_000.0, samples[QUERIES * 99 / 100] / 1_000.0, samples[QUERIES - 1] / 1_000.0));
+	}
+}
@@ -0,0 +1,89 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import one.digitalinnovation.beerstock.BeerstockApplication;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.service.BeerService;
+
+@Tag("benchmark")
+class ShardedWriteBenchmark {
+
+	private static final int BEERS = Integer.getInteger("benchmark.beers", 1_000);
+	private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+	private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 10_000);
+
+	@Test
+	void measureStockWriteThroughputAsShardsAreAdded() throws Exception {
+		for (int shards = 1; shards <= 8; shards *= 2) {
+			report(shards);
+		}
+	}
+
+	private void report(int shards) throws Exception {
+		List<String> args = new ArrayList<>();
+		args.add("--server.port=0");
+		args.add("--spring.devtools.restart.enabled=false");
+		args.add("--beerstock.rate-limit.enabled=false");
+		args.add("--beerstock.bulkhead.enabled=false");
+		String run = Long.toHexString(System.nanoTime());
+		for (int shard = 0; shard < shards; shard++) {
+			args.add("--beerstock.sharding.shards[" + shard + "].url=jdbc:h2:mem:bench-" + run + "-" + shard + ";DB_CLOSE_DELAY=-1");
+			args.add("--beerstock.sharding.shards[" + shard + "].maximum-pool-size=" + THREADS);
+		}
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BeerstockApplication.class)
+				.profiles("sharded")
+				.run(args.toArray(new String[0]));
+		try {
+			BeerService beerService = context.getBean(BeerService.class);
+			long[] ids = new long[BEERS];
+			for (int i = 0; i < BEERS; i++) {
+				ids[i] = beerService.createBeer(new BeerDTO(null, "Beer " + i, "Brand", 1_000_000, 500_000, BeerType.LAGER)).getId();
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Long>> results = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				results.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					start.await();
+					long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+					long operations = 0;
+					while (System.nanoTime() < deadline) {
+						long id = ids[random.nextInt(BEERS)];
+						if (random.nextBoolean()) {
+							beerService.increment(id, 1);
+						} else {
+							beerService.decrement(id, 1);
+						}
+						operations++;
+					}
+					return operations;
+				}));
+			}
+			start.countDown();
+			long operations = 0;
+			for (Future<Long> result : results) {
+				operations += result.get();
+			}
+			executor.shutdown();
+			System.out.println(String.format("shards=%d threads=%d beers=%d writes=%d throughput=%.0f writes/s",
+					shards, THREADS, BEERS, operations, operations * 1_000.0 / DURATION_MILLIS));
+		} finally {
+			context.close();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.BeerstockApplication;
+
+/**
+ * Starts the application in a fresh JVM per run and measures, from process spawn, the time until the first
+ * successful request and the time until point-lookup latency stops improving. Run {@code mvn package -Pappcds}
+ * first to include the AppCDS scenario.
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+	private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 3);
+	private static final int WINDOW = Integer.getInteger("benchmark.startup.window", 50);
+	private static final long STEADY_STATE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("benchmark.startup.timeout", 60));
+	private static final Path APPCDS_ARGS = Paths.get("target", "appcds", "java.args");
+
+	@Test
+	void measureTimeToFirstRequestAndTimeToSteadyState() throws Exception {
+		List<String> classpath = Arrays.asList("-cp", System.getProperty("java.class.path"), BeerstockApplication.class.getName());
+		report("default", classpath, "default");
+		report("faststart", classpath, "faststart");
+		if (Files.exists(APPCDS_ARGS)) {
+			report("faststart+appcds", Arrays.asList("@" + APPCDS_ARGS.toAbsolutePath()), "faststart");
+		}
+	}
+
+	private void report(String scenario, List<String> launch, String profile) throws Exception {
+		long[] firstRequest = new long[RUNS];
+		long[] steadyState = new long[RUNS];
+		for (int run = 0; run < RUNS; run++) {
+			long[] timings = measure(launch, profile);
+			firstRequest[run] = timings[0];
+			steadyState[run] = timings[1];
+		}
+		Arrays.sort(firstRequest);
+		Arrays.sort(steadyState);
+		System.out.println(String.format("%-17s runs=%d time-to-first-request=%dms time-to-steady-state=%dms (medians)",
+				scenario, RUNS, TimeUnit.NANOSECONDS.toMillis(firstRequest[RUNS / 2]),
+				TimeUnit.NANOSECONDS.toMillis(steadyState[RUNS / 2])));
+	}
+
+	private long[] measure(List<String> launch, String profile) throws Exception {
+		int port = freePort();
+		List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-Dspring.devtools.restart.enabled=false");
+		command.addAll(launch);
+		command.addAll(Arrays.asList("--server.port=" + port, "--spring.profiles.active=" + profile,
+				"--beerstock.rate-limit.enabled=false", "--beerstock.bulkhead.enabled=false"));
+		String baseUrl = "http://localhost:" + port + "/api/v1/beers";
+
+		long spawn = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(new File("target/startup-benchmark.log"))
+				.start();
+		try {
+			while (request("GET", baseUrl, null) != 200) {
+				if (!process.isAlive() || System.nanoTime() - spawn > STEADY_STATE_TIMEOUT_NANOS) {
+					throw new IllegalStateException("Application did not start, see target/startup-benchmark.log");
+				}
+				Thread.sleep(5);
+			}
+			long firstRequest = System.nanoTime() - spawn;
+
+			for (int i = 0; i < 10; i++) {
+				request("POST", baseUrl, "{\"name\":\"Beer" + i + "\",\"brand\":\"Brand\",\"max\":50,\"quantity\":10,\"type\":\"LAGER\"}");
+			}
+			return new long[] { firstRequest, awaitSteadyState(baseUrl, spawn) };
+		} finally {
+			process.destroy();
+			process.waitFor(30, TimeUnit.SECONDS);
+		}
+	}
+
+	private long awaitSteadyState(String baseUrl, long spawn) throws IOException {
+		long best = Long.MAX_VALUE;
+		int stableWindows = 0;
+		long[] window = new long[WINDOW];
+		while (stableWindows < 3 && System.nanoTime() - spawn < STEADY_STATE_TIMEOUT_NANOS) {
+			for (int i = 0; i < WINDOW; i++) {
+				long start = System.nanoTime();
+				request("GET", baseUrl + "/Beer" + (i % 10), null);
+				window[i] = System.nanoTime() - start;
+			}
+			Arrays.sort(window);
+			long median = window[WINDOW / 2];
+			stableWindows = median <= best * 1.1 ? stableWindows + 1 : 0;
+			best = Math.min(best, median);
+		}
+		return System.nanoTime() - spawn;
+	}
+
+	private int request(String method, String url, String body) {
+		try {
+			HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+			connection.setRequestMethod(method);
+			if (body != null) {
+				connection.setDoOutput(true);
+				connection.setRequestProperty("Content-Type", "application/json");
+				connection.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+			}
+			int status = connection.getResponseCode();
+			InputStream response = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+			if (response != null) {
+				response.readAllBytes();
+			}
+			return status;
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
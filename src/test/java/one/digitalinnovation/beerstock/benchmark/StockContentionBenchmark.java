@@ -0,0 +1,223 @@
+package one.digitalinnovation.beerstock.benchmark;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import one.digitalinnovation.beerstock.BeerstockApplication;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import one.digitalinnovation.beerstock.service.BeerService;
+
+/**
+ * Drives increments and decrements through the real {@link BeerService} and H2 while sweeping thread count and key
+ * skew, then checks that every beer stayed within {@code [0, max]} and that its final quantity equals the starting
+ * quantity plus the net of the operations the service reported as successful.
+ */
+@Tag("benchmark")
+class StockContentionBenchmark {
+
+	private static final int BEERS = Integer.getInteger("benchmark.beers", 1_000);
+	private static final int MAX = Integer.getInteger("benchmark.max", 200);
+	private static final long DURATION_MILLIS = Long.getLong("benchmark.duration-millis", 5_000);
+	private static final double INCREMENT_RATIO = Double.parseDouble(System.getProperty("benchmark.increment-ratio", "0.5"));
+	private static final int[] THREADS = Arrays.stream(System.getProperty("benchmark.threads", "1,4,16,64").split(","))
+			.mapToInt(Integer::parseInt).toArray();
+	private static final double[] SKEWS = Arrays.stream(System.getProperty("benchmark.zipf-skews", "0,0.99,1.5").split(","))
+			.mapToDouble(Double::parseDouble).toArray();
+
+	@Test
+	void measureStockWritesAndCheckInvariantsAsContentionRises() throws Exception {
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(BeerstockApplication.class)
+				.properties("server.port=0", "beerstock.swagger.enabled=false", "beerstock.audit.enabled=false",
+						"beerstock.rate-limit.enabled=false", "beerstock.bulkhead.enabled=false",
+						"spring.datasource.hikari.maximum-pool-size=" + Arrays.stream(THREADS).max().getAsInt())
+				.run();
+		List<String> violations = new ArrayList<>();
+		try {
+			BeerService beerService = context.getBean(BeerService.class);
+			BeerRepository beerRepository = context.getBean(BeerRepository.class);
+			long[] ids = new long[BEERS];
+			for (int i = 0; i < BEERS; i++) {
+				ids[i] = beerService.createBeer(new BeerDTO(null, "Beer " + i, "Brand", MAX, MAX / 2, BeerType.LAGER)).getId();
+			}
+			for (double skew : SKEWS) {
+				ZipfSampler sampler = new ZipfSampler(BEERS, skew);
+				for (int threads : THREADS) {
+					reset(beerRepository);
+					Result result = run(beerService, ids, sampler, threads);
+					result.check(beerRepository, ids, violations);
+					System.out.println(result.describe(skew, threads));
+				}
+			}
+		} finally {
+			context.close();
+		}
+		violations.stream().limit(20).forEach(System.out::println);
+		assertThat(violations, is(empty()));
+	}
+
+	private void reset(BeerRepository beerRepository) {
+		List<Beer> beers = beerRepository.findAll();
+		beers.forEach(beer -> beer.setQuantity(MAX / 2));
+		beerRepository.saveAll(beers);
+	}
+
+	private Result run(BeerService beerService, long[] ids, ZipfSampler sampler, int threads) throws Exception {
+		AtomicLongArray netDelta = new AtomicLongArray(ids.length);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Worker>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			futures.add(executor.submit(() -> {
+				Worker worker = new Worker();
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				start.await();
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+				long now;
+				while ((now = System.nanoTime()) < deadline) {
+					int index = sampler.sample(random.nextDouble());
+					int quantity = 1 + random.nextInt(5);
+					try {
+						if (random.nextDouble() < INCREMENT_RATIO) {
+							beerService.increment(ids[index], quantity);
+							netDelta.addAndGet(index, quantity);
+						} else {
+							beerService.decrement(ids[index], quantity);
+							netDelta.addAndGet(index, -quantity);
+						}
+					} catch (BeerStockExceededException | BeerStockLessThanZeroException e) {
+						worker.rejected++;
+					} catch (RuntimeException e) {
+						worker.errors++;
+					}
+					worker.record(System.nanoTime() - now);
+				}
+				return worker;
+			}));
+		}
+		start.countDown();
+		Result result = new Result(netDelta);
+		for (Future<Worker> future : futures) {
+			result.add(future.get());
+		}
+		executor.shutdown();
+		return result.finish();
+	}
+
+	private static class Worker {
+
+		long[] latencies = new long[1 << 14];
+		int operations;
+		long rejected;
+		long errors;
+
+		void record(long nanos) {
+			if (operations == latencies.length) {
+				latencies = Arrays.copyOf(latencies, operations * 2);
+			}
+			latencies[operations++] = nanos;
+		}
+	}
+
+	private static class Result {
+
+		final AtomicLongArray netDelta;
+		long[] latencies = new long[0];
+		long rejected;
+		long errors;
+		long lostUpdates;
+		long outOfBounds;
+
+		Result(AtomicLongArray netDelta) {
+			this.netDelta = netDelta;
+		}
+
+		void add(Worker worker) {
+			int offset = latencies.length;
+			latencies = Arrays.copyOf(latencies, offset + worker.operations);
+			System.arraycopy(worker.latencies, 0, latencies, offset, worker.operations);
+			rejected += worker.rejected;
+			errors += worker.errors;
+		}
+
+		Result finish() {
+			Arrays.sort(latencies);
+			return this;
+		}
+
+		void check(BeerRepository beerRepository, long[] ids, List<String> violations) {
+			for (int i = 0; i < ids.length; i++) {
+				Beer beer = beerRepository.findById(ids[i]).orElseThrow(IllegalStateException::new);
+				long expected = MAX / 2 + netDelta.get(i);
+				if (beer.getQuantity() < 0 || beer.getQuantity() > beer.getMax()) {
+					outOfBounds++;
+					violations.add(String.format("beer %d quantity %d outside [0, %d]", beer.getId(), beer.getQuantity(), beer.getMax()));
+				}
+				if (beer.getQuantity() != expected) {
+					lostUpdates += Math.abs(beer.getQuantity() - expected);
+					violations.add(String.format("beer %d quantity %d but successful operations add up to %d",
+							beer.getId(), beer.getQuantity(), expected));
+				}
+			}
+		}
+
+		String describe(double skew, int threads) {
+			return String.format("skew=%-4s threads=%-3d ops=%-7d throughput=%6.0f ops/s p50=%6.2fms p99=%7.2fms max=%7.2fms "
+							+ "rejected=%d errors=%d lost-units=%d out-of-bounds=%d",
+					skew, threads, latencies.length, latencies.length * 1_000.0 / DURATION_MILLIS,
+					percentileMillis(0.50), percentileMillis(0.99), percentileMillis(1.0),
+					rejected, errors, lostUpdates, outOfBounds);
+		}
+
+		private double percentileMillis(double percentile) {
+			if (latencies.length == 0) {
+				return 0;
+			}
+			return latencies[(int) Math.min(latencies.length - 1, latencies.length * percentile)] / 1_000_000.0;
+		}
+	}
+
+	/** Maps a uniform draw to a key rank with probability proportional to {@code 1 / rank^skew}; skew 0 is uniform. */
+	private static class ZipfSampler {
+
+		private final double[] cumulative;
+
+		ZipfSampler(int keys, double skew) {
+			cumulative = new double[keys];
+			double sum = 0;
+			for (int rank = 1; rank <= keys; rank++) {
+				sum += 1 / Math.pow(rank, skew);
+				cumulative[rank - 1] = sum;
+			}
+			for (int i = 0; i < keys; i++) {
+				cumulative[i] /= sum;
+			}
+		}
+
+		int sample(double uniform) {
+			int index = Arrays.binarySearch(cumulative, uniform);
+			return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package one.digitalinnovation.beerstock.catalog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+class ColumnarCatalogTest {
+
+	private ColumnarCatalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		catalog = new ColumnarCatalog();
+		catalog.put(new Beer(1L, "Brahma", "Ambev", 50, 10, BeerType.LAGER));
+		catalog.put(new Beer(2L, "Guinness", "Diageo", 50, 30, BeerType.STOUT));
+		catalog.put(new Beer(3L, "Colorado Demoiselle", "Colorado", 50, 5, BeerType.STOUT));
+		catalog.put(new Beer(4L, "Baden Stout", "Baden Baden", 50, 11, BeerType.STOUT));
+	}
+
+	@Test
+	void whenFilteringByTypeAndQuantityThenBitmapAndColumnsAreCombined() {
+		BeerFilterDTO stoutsAboveTen = BeerFilterDTO.builder().type(BeerType.STOUT).minQuantity(11).build();
+
+		assertThat(ids(catalog.filter(stoutsAboveTen)), contains(2L, 4L));
+		assertThat(catalog.count(stoutsAboveTen), is(equalTo(2L)));
+	}
+
+	@Test
+	void whenFilteringByBrandThenOnlyThatBrandIsReturned() {
+		assertThat(ids(catalog.filter(BeerFilterDTO.builder().brand("Diageo").build())), contains(2L));
+		assertThat(catalog.count(BeerFilterDTO.builder().brand("Unknown").build()), is(equalTo(0L)));
+	}
+
+	@Test
+	void whenBeerIsUpdatedThenColumnsAndTypeBitmapFollow() {
+		catalog.put(new Beer(1L, "Brahma", "Ambev", 50, 40, BeerType.STOUT));
+
+		Beer updated = catalog.filter(BeerFilterDTO.builder().type(BeerType.STOUT).minQuantity(31).build()).get(0);
+		assertThat(updated.getName(), is(equalTo("Brahma")));
+		assertThat(updated.getQuantity(), is(equalTo(40)));
+		assertThat(catalog.count(BeerFilterDTO.builder().type(BeerType.LAGER).build()), is(equalTo(0L)));
+	}
+
+	@Test
+	void whenManyBeersAreRemovedThenTableIsCompactedAndStillAnswersQueries() {
+		for (long id = 100; id < 5_100; id++) {
+			catalog.put(new Beer(id, "Beer " + id, "Brand " + (id % 7), 50, (int) (id % 100), BeerType.IPA));
+		}
+		for (long id = 100; id < 4_100; id++) {
+			catalog.remove(id);
+		}
+
+		assertThat(catalog.size(), is(equalTo(1_004)));
+		assertThat(catalog.count(BeerFilterDTO.builder().type(BeerType.IPA).build()), is(equalTo(1_000L)));
+		assertThat(ids(catalog.filter(BeerFilterDTO.builder().type(BeerType.STOUT).maxQuantity(10).build())), contains(3L));
+	}
+
+	@Test
+	void whenLimitIsReachedThenFilterStops() {
+		assertThat(catalog.filter(BeerFilterDTO.builder().limit(2).build()).size(), is(equalTo(2)));
+	}
+
+	private static List<Long> ids(List<Beer> beers) {
+		return beers.stream().map(Beer::getId).collect(Collectors.toList());
+	}
+}
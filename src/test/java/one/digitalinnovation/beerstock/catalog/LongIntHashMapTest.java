@@ -0,0 +1,35 @@
+package one.digitalinnovation.beerstock.catalog;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+
+	@Test
+	void whenRandomOperationsAreAppliedThenMapAgreesWithHashMap() {
+		LongIntHashMap map = new LongIntHashMap(4);
+		Map<Long, Integer> expected = new HashMap<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 200_000; i++) {
+			long key = random.nextInt(5_000) - 2_500;
+			if (random.nextInt(3) == 0) {
+				Integer removed = expected.remove(key);
+				assertThat(map.remove(key), is(equalTo(removed == null ? LongIntHashMap.MISSING : removed)));
+			} else {
+				expected.put(key, i);
+				map.put(key, i);
+			}
+		}
+		assertThat(map.size(), is(equalTo(expected.size())));
+		for (long key = -2_500; key < 2_500; key++) {
+			assertThat(map.get(key), is(equalTo(expected.getOrDefault(key, LongIntHashMap.MISSING))));
+		}
+	}
+}
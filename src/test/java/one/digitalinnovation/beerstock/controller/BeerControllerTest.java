@@ -4,13 +4,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,16 +24,28 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
 import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.catalog.CatalogQueryService;
 import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.BeerFilterDTO;
+import one.digitalinnovation.beerstock.dto.BeerWatchDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteResultDTO;
 import one.digitalinnovation.beerstock.dto.QuantityDTO;
+import one.digitalinnovation.beerstock.enums.BeerType;
 import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.search.BeerSearchService;
+import one.digitalinnovation.beerstock.service.BeerPurgeService;
 import one.digitalinnovation.beerstock.service.BeerService;
 import one.digitalinnovation.beerstock.util.JsonUtils;
+import one.digitalinnovation.beerstock.watch.BeerWatchService;
 
 @ExtendWith(MockitoExtension.class)
 public class BeerControllerTest {
@@ -46,6 +61,18 @@ public class BeerControllerTest {
 	@Mock
 	private BeerService beerService;
 
+	@Mock
+	private BeerSearchService beerSearchService;
+
+	@Mock
+	private CatalogQueryService catalogQueryService;
+
+	@Mock
+	private BeerPurgeService beerPurgeService;
+
+	@Mock
+	private BeerWatchService beerWatchService;
+
 	@InjectMocks
 	private BeerController beerController;
 
@@ -88,6 +115,77 @@ public class BeerControllerTest {
 			.andExpect(status().isBadRequest());
 	}
 	
+	@Test
+	void whenSearchIsCalledThenRankedMatchesAreReturned() throws Exception {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+
+		//when
+		when(beerSearchService.search("brah", BeerType.LAGER, 20)).thenReturn(Collections.singletonList(beerDTO));
+
+		//then
+		mockMvc.perform(get(BEER_API_URL_PATH.concat("/search"))
+				.param("q", "brah")
+				.param("type", "LAGER")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name", is(beerDTO.getName())));
+	}
+
+	@Test
+	void whenFilterIsCalledThenCriteriaAreBoundFromQueryParameters() throws Exception {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+		BeerFilterDTO filter = BeerFilterDTO.builder().type(BeerType.STOUT).minQuantity(10).build();
+
+		//when
+		when(catalogQueryService.filter(filter)).thenReturn(Collections.singletonList(beerDTO));
+
+		//then
+		mockMvc.perform(get(BEER_API_URL_PATH.concat("/filter"))
+				.param("type", "STOUT")
+				.param("minQuantity", "10")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name", is(beerDTO.getName())));
+	}
+
+	@Test
+	void whenFilterIsCalledWithNegativeQuantityThenBadRequestIsReturned() throws Exception {
+		mockMvc.perform(get(BEER_API_URL_PATH.concat("/filter"))
+				.param("minQuantity", "-1")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void whenBulkDeleteIsCalledWithIdsThenDeletedCountAndMissingIdsAreReturned() throws Exception {
+		//given
+		BulkDeleteDTO bulkDeleteDTO = BulkDeleteDTO.builder().ids(Arrays.asList(1L, 2L, 3L)).build();
+		BulkDeleteResultDTO result = BulkDeleteResultDTO.builder().deleted(2).missingIds(Collections.singletonList(3L)).build();
+
+		//when
+		when(beerPurgeService.delete(bulkDeleteDTO)).thenReturn(result);
+
+		//then
+		mockMvc.perform(post(BEER_API_URL_PATH.concat("/bulk-delete"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(JsonUtils.asJsonString(bulkDeleteDTO)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.deleted", is(2)))
+				.andExpect(jsonPath("$.missingIds[0]", is(3)));
+	}
+
+	@Test
+	void whenBulkDeleteIsCalledWithMoreThanOneCriterionThenBadRequestIsReturned() throws Exception {
+		BulkDeleteDTO bulkDeleteDTO = BulkDeleteDTO.builder().brand("Ambev").type(BeerType.LAGER).build();
+
+		mockMvc.perform(post(BEER_API_URL_PATH.concat("/bulk-delete"))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(JsonUtils.asJsonString(bulkDeleteDTO)))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void whenGetIsCalledWithValidNameThenOkStatusIsReturned() throws Exception {
 		//given
@@ -223,4 +321,26 @@ public class BeerControllerTest {
 				.andExpect(jsonPath("$.quantity", is(beerDTO.getQuantity())));
 	}
 	
+	@Test
+	void whenWatchIsCalledThenResponseIsWrittenOnceTheChangeArrives() throws Exception {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+		DeferredResult<ResponseEntity<BeerWatchDTO>> deferred = new DeferredResult<>();
+
+		//when
+		when(beerWatchService.watch(VALID_BEER_ID, 7L, 5000L)).thenReturn(deferred);
+		MvcResult parked = mockMvc.perform(get(BEER_API_URL_PATH + "/" + VALID_BEER_ID + "/watch")
+				.param("sinceVersion", "7")
+				.param("timeout", "5000"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		deferred.setResult(ResponseEntity.ok(BeerWatchDTO.builder().version(8).beer(beerDTO).build()));
+
+		//then
+		mockMvc.perform(asyncDispatch(parked))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.version", is(8)))
+				.andExpect(jsonPath("$.beer.name", is(beerDTO.getName())));
+	}
+
 }
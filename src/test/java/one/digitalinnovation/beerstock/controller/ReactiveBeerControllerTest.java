@@ -0,0 +1,240 @@
+package one.digitalinnovation.beerstock.controller;
+
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.QuantityDTO;
+import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
+import one.digitalinnovation.beerstock.service.ReactiveBeerService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveBeerControllerTest {
+
+	private static final String BEER_API_URL_PATH = "/api/v1/beers";
+	private static final Long VALID_BEER_ID = 1L;
+	private static final Long INVALID_BEER_ID = 2L;
+
+	private WebTestClient webTestClient;
+
+	@Mock
+	private ReactiveBeerService beerService;
+
+	@InjectMocks
+	private ReactiveBeerController beerController;
+
+	@BeforeEach
+	void setup() {
+		webTestClient = WebTestClient.bindToController(beerController).build();
+	}
+
+	@Test
+	void whenPostIsCalledThenAbeerIsCreated() {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+
+		//when
+		when(beerService.createBeer(beerDTO)).thenReturn(Mono.just(beerDTO));
+
+		//then
+		webTestClient.post().uri(BEER_API_URL_PATH)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(beerDTO)
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody()
+				.jsonPath("$.name").isEqualTo(beerDTO.getName())
+				.jsonPath("$.brand").isEqualTo(beerDTO.getBrand())
+				.jsonPath("$.type").isEqualTo(beerDTO.getType().name());
+	}
+
+	@Test
+	void whenPostIsCalledWithoutRequiredFieldThenAnErrorIsReturn() {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+		beerDTO.setBrand(null);
+
+		//then
+		webTestClient.post().uri(BEER_API_URL_PATH)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(beerDTO)
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void whenPostIsCalledWithRegisteredNameThenBadRequestIsReturned() {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+
+		//when
+		when(beerService.createBeer(beerDTO)).thenReturn(Mono.error(new BeerAlreadyRegisteredException(beerDTO.getName())));
+
+		//then
+		webTestClient.post().uri(BEER_API_URL_PATH)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(beerDTO)
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void whenGetIsCalledWithValidNameThenOkStatusIsReturned() {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+
+		//when
+		when(beerService.findByName(beerDTO.getName())).thenReturn(Mono.just(beerDTO));
+
+		//then
+		webTestClient.get().uri(BEER_API_URL_PATH + "/" + beerDTO.getName())
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.name").isEqualTo(beerDTO.getName())
+				.jsonPath("$.quantity").isEqualTo(beerDTO.getQuantity());
+	}
+
+	@Test
+	void whenGetIsCalledWithoutRegisteredNameThenNotFoundStatusIsReturned() {
+		//when
+		when(beerService.findByName("Unknown")).thenReturn(Mono.error(new BeerNotFoundException("Unknown")));
+
+		//then
+		webTestClient.get().uri(BEER_API_URL_PATH + "/Unknown")
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void whenGetListWithBeersIsCalledThenOkStatusIsReturned() {
+		//given
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+
+		//when
+		when(beerService.listAll()).thenReturn(Flux.just(beerDTO));
+
+		//then
+		webTestClient.get().uri(BEER_API_URL_PATH)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$[0].name").isEqualTo(beerDTO.getName());
+	}
+
+	@Test
+	void whenDeleteIsCalledWithInvalidIdThenNotFoundStatusIsReturned() {
+		//when
+		when(beerService.deleteById(INVALID_BEER_ID)).thenReturn(Mono.error(new BeerNotFoundException(INVALID_BEER_ID)));
+
+		//then
+		webTestClient.delete().uri(BEER_API_URL_PATH + "/" + INVALID_BEER_ID)
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void whenPatchIsCalledToIncrementThenOkStatusIsReturn() {
+		//given
+		QuantityDTO quantityDTO = QuantityDTO.builder().quantity(10).build();
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+		beerDTO.setQuantity(beerDTO.getQuantity() + quantityDTO.getQuantity());
+
+		//when
+		when(beerService.increment(VALID_BEER_ID, quantityDTO.getQuantity())).thenReturn(Mono.just(beerDTO));
+
+		//then
+		webTestClient.patch().uri(BEER_API_URL_PATH + "/" + VALID_BEER_ID + "/increment")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(quantityDTO)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.quantity").isEqualTo(beerDTO.getQuantity());
+	}
+
+	@Test
+	void whenPatchIsCalledToIncrementBeyondMaxThenBadRequestIsReturned() {
+		//given
+		QuantityDTO quantityDTO = QuantityDTO.builder().quantity(80).build();
+
+		//when
+		when(beerService.increment(VALID_BEER_ID, quantityDTO.getQuantity()))
+				.thenReturn(Mono.error(new BeerStockExceededException(VALID_BEER_ID, quantityDTO.getQuantity())));
+
+		//then
+		webTestClient.patch().uri(BEER_API_URL_PATH + "/" + VALID_BEER_ID + "/increment")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(quantityDTO)
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void whenPatchIsCalledToDecrementThenOkStatusIsReturn() {
+		//given
+		QuantityDTO quantityDTO = QuantityDTO.builder().quantity(5).build();
+		BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDTO();
+		beerDTO.setQuantity(beerDTO.getQuantity() - quantityDTO.getQuantity());
+
+		//when
+		when(beerService.decrement(VALID_BEER_ID, quantityDTO.getQuantity())).thenReturn(Mono.just(beerDTO));
+
+		//then
+		webTestClient.patch().uri(BEER_API_URL_PATH + "/" + VALID_BEER_ID + "/decrement")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(quantityDTO)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.quantity").isEqualTo(beerDTO.getQuantity());
+	}
+
+	@Test
+	void whenPatchIsCalledToDecrementBelowZeroThenBadRequestIsReturned() {
+		//given
+		QuantityDTO quantityDTO = QuantityDTO.builder().quantity(20).build();
+
+		//when
+		when(beerService.decrement(VALID_BEER_ID, quantityDTO.getQuantity()))
+				.thenReturn(Mono.error(new BeerStockLessThanZeroException(VALID_BEER_ID, quantityDTO.getQuantity())));
+
+		//then
+		webTestClient.patch().uri(BEER_API_URL_PATH + "/" + VALID_BEER_ID + "/decrement")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(quantityDTO)
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void whenPatchIsCalledToIncrementUnknownBeerThenNotFoundIsReturned() {
+		//given
+		QuantityDTO quantityDTO = QuantityDTO.builder().quantity(5).build();
+
+		//when
+		when(beerService.increment(INVALID_BEER_ID, quantityDTO.getQuantity()))
+				.thenReturn(Mono.error(new BeerNotFoundException(INVALID_BEER_ID)));
+
+		//then
+		webTestClient.patch().uri(BEER_API_URL_PATH + "/" + INVALID_BEER_ID + "/increment")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(quantityDTO)
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+}
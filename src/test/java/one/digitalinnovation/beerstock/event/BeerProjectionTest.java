@@ -0,0 +1,109 @@
+package one.digitalinnovation.beerstock.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+
+class BeerProjectionTest {
+
+	private BeerRepository beerRepository;
+	private MapProjection projection;
+
+	@BeforeEach
+	void setUp() {
+		beerRepository = mock(BeerRepository.class);
+		projection = new MapProjection(beerRepository);
+		projection.onBeerChange(BeerChangeEvent.created(beer(0, 10)));
+	}
+
+	@Test
+	void whenStockChangesArriveOutOfOrderThenTheNewerOneIsKept() {
+		//given
+		BeerChangeEvent first = BeerChangeEvent.stockChanged(beer(1, 15), 10);
+		BeerChangeEvent second = BeerChangeEvent.stockChanged(beer(2, 20), 15);
+
+		//when
+		projection.onBeerChange(second);
+		projection.onBeerChange(first);
+
+		//then
+		assertThat(projection.beers.get(1L).getQuantity(), is(equalTo(20)));
+		assertThat(projection.beers.get(1L).getVersion(), is(equalTo(2L)));
+	}
+
+	@Test
+	void whenStockChangeArrivesAfterTheDeletionThenTheBeerStaysDeleted() {
+		//given
+		Beer changed = beer(1, 15);
+		BeerChangeEvent stockChanged = BeerChangeEvent.stockChanged(changed, 10);
+		BeerChangeEvent deleted = BeerChangeEvent.deleted(changed);
+
+		//when
+		projection.onBeerChange(deleted);
+		projection.onBeerChange(stockChanged);
+
+		//then
+		assertThat(projection.beers.get(1L), is(nullValue()));
+	}
+
+	@Test
+	void whenInitialLoadReadsABeerDeletedMeanwhileThenItIsNotRestored() {
+		//given
+		projection.onBeerChange(BeerChangeEvent.deleted(beer(0, 10)));
+		when(beerRepository.findAll()).thenReturn(Collections.singletonList(beer(0, 10)));
+
+		//when
+		projection.run(null);
+
+		//then
+		assertThat(projection.beers.get(1L), is(nullValue()));
+	}
+
+	private static Beer beer(long version, int quantity) {
+		return new Beer(1L, "Brahma", "Ambev", 50, quantity, BeerType.LAGER, version);
+	}
+
+	private static class MapProjection extends BeerProjection {
+
+		private final Map<Long, Beer> beers = new HashMap<>();
+
+		MapProjection(BeerRepository beerRepository) {
+			super(beerRepository);
+		}
+
+		@Override
+		protected void put(Beer beer) {
+			beers.put(beer.getId(), beer);
+		}
+
+		@Override
+		protected void remove(Long id) {
+			beers.remove(id);
+		}
+
+		@Override
+		protected Long versionOf(Long id) {
+			Beer beer = beers.get(id);
+			return beer == null ? null : beer.getVersion();
+		}
+
+		@Override
+		protected int size() {
+			return beers.size();
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package one.digitalinnovation.beerstock.importer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.ImportStatusDTO;
+import one.digitalinnovation.beerstock.exception.ImportNotFoundException;
+import one.digitalinnovation.beerstock.exception.ImportTooLargeException;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import one.digitalinnovation.beerstock.service.BeerService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:import;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false",
+		"beerstock.import.directory=target/test-imports",
+		"beerstock.import.chunk-size=100",
+		"beerstock.import.max-bytes=65536"
+})
+class BeerImportServiceTest {
+
+	private static final Path IMPORT_DIRECTORY = Paths.get("target/test-imports");
+
+	@Autowired
+	private BeerImportService beerImportService;
+
+	@Autowired
+	private BeerService beerService;
+
+	@Autowired
+	private BeerRepository beerRepository;
+
+	@Test
+	void whenCsvIsImportedThenValidRowsAreSavedAndInvalidRowsReported() throws Exception {
+		//given
+		beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Existing").build().toBeerDTO());
+		StringBuilder csv = new StringBuilder("type,quantity,max,brand,name,origin\n");
+		for (int i = 0; i < 250; i++) {
+			csv.append("lager,10,50,Imported,Import ").append(i).append(",BR\n");
+		}
+		csv.append("ale,ten,50,Imported,Bad number,BR\n")
+				.append("ale,101,50,Imported,Too many,BR\n")
+				.append("cider,1,50,Imported,Unknown type,BR\n")
+				.append("ale,1,50,Imported,Import 249,BR\n")
+				.append("ale,1,50,Imported,Existing,BR\n");
+
+		//when
+		ImportStatusDTO status = awaitFinished(beerImportService.start(
+				new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))).getId());
+
+		//then
+		assertThat(status.getState(), is(equalTo("COMPLETED")));
+		assertThat(status.getRowsProcessed(), is(equalTo(255L)));
+		assertThat(status.getImported(), is(equalTo(250L)));
+		assertThat(status.getRejected(), is(equalTo(5L)));
+		assertThat(status.getErrors(), containsInAnyOrder(
+				"row 251: quantity must be a whole number but was ten",
+				"row 252: quantity must be less than or equal to 100",
+				"row 253: type must be one of [LAGER, MALZBIER, WITBIER, WEISS, ALE, IPA, STOUT] but was cider",
+				"row 254: name Import 249 already appears in row 250",
+				"row 255: name Existing is already registered"));
+		assertThat(beerRepository.findByName("Import 0").isPresent(), is(true));
+		assertThat(Files.exists(IMPORT_DIRECTORY.resolve(status.getId() + ".csv")), is(false));
+	}
+
+	@Test
+	void whenImportIsResumedThenRowsUpToTheCheckpointAreSkipped() throws Exception {
+		//given
+		String id = UUID.randomUUID().toString();
+		Files.createDirectories(IMPORT_DIRECTORY);
+		Files.write(IMPORT_DIRECTORY.resolve(id + ".csv"),
+				"name,brand,max,quantity,type\nResumed 1,B,50,1,IPA\nResumed 2,B,50,1,IPA\nResumed 3,B,50,1,IPA\n"
+						.getBytes(StandardCharsets.UTF_8));
+		Files.write(IMPORT_DIRECTORY.resolve(id + ".checkpoint"), "2 1 1".getBytes(StandardCharsets.US_ASCII));
+
+		//when
+		ImportStatusDTO status = awaitFinished(beerImportService.resume(id).getId());
+
+		//then
+		assertThat(status.getState(), is(equalTo("COMPLETED")));
+		assertThat(status.getRowsProcessed(), is(equalTo(3L)));
+		assertThat(status.getImported(), is(equalTo(2L)));
+		assertThat(status.getRejected(), is(equalTo(1L)));
+		assertThat(beerRepository.findByName("Resumed 2").isPresent(), is(false));
+		assertThat(beerRepository.findByName("Resumed 3").isPresent(), is(true));
+	}
+
+	@Test
+	void whenCsvIsLargerThanTheLimitThenItIsRejectedAndNotSpooled() throws Exception {
+		//given
+		StringBuilder csv = new StringBuilder("name,brand,max,quantity,type\n");
+		for (int i = 0; csv.length() <= 65536; i++) {
+			csv.append("Oversized ").append(i).append(",B,50,1,IPA\n");
+		}
+		long spooledBefore = spooledFiles();
+
+		//when
+		assertThrows(ImportTooLargeException.class, () -> beerImportService.start(
+				new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8))));
+
+		//then
+		assertThat(spooledFiles(), is(equalTo(spooledBefore)));
+		assertThat(beerRepository.findByName("Oversized 0").isPresent(), is(false));
+	}
+
+	@Test
+	void whenFinishedJobOutlivesTheRetentionThenItIsEvicted() throws Exception {
+		//given
+		ImportStatusDTO status = awaitFinished(beerImportService.start(new ByteArrayInputStream(
+				"name,brand,max,quantity,type\nEvicted,B,50,1,IPA\n".getBytes(StandardCharsets.UTF_8))).getId());
+
+		//when
+		beerImportService.evictFinished(status.getFinishedAt().plusMillis(3_600_000));
+		ImportStatusDTO kept = beerImportService.status(status.getId());
+		beerImportService.evictFinished(status.getFinishedAt().plusMillis(3_600_001));
+
+		//then
+		assertThat(kept.getState(), is(equalTo("COMPLETED")));
+		assertThrows(ImportNotFoundException.class, () -> beerImportService.status(status.getId()));
+	}
+
+	private long spooledFiles() throws Exception {
+		Files.createDirectories(IMPORT_DIRECTORY);
+		try (Stream<Path> files = Files.list(IMPORT_DIRECTORY)) {
+			return files.filter(file -> file.toString().endsWith(".csv")).count();
+		}
+	}
+
+	private ImportStatusDTO awaitFinished(String id) throws Exception {
+		for (int attempt = 0; attempt < 300; attempt++) {
+			ImportStatusDTO status = beerImportService.status(id);
+			if (status.getState().equals("COMPLETED") || status.getState().equals("FAILED")) {
+				return status;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("Import " + id + " did not finish");
+	}
+
+}
@@ -0,0 +1,34 @@
+package one.digitalinnovation.beerstock.importer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+	@Test
+	void whenFieldsAreQuotedThenCommasQuotesAndLineBreaksAreKept() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader(
+				"name,brand\r\n\"Brahma, Chopp\",\"Am\"\"bev\"\r\n\"Two\nLines\",x\nlast,"));
+
+		assertThat(reader.next(), contains("name", "brand"));
+		assertThat(reader.next(), contains("Brahma, Chopp", "Am\"bev"));
+		assertThat(reader.next(), contains("Two\nLines", "x"));
+		assertThat(reader.next(), contains("last", ""));
+		assertThat(reader.next(), is(nullValue()));
+	}
+
+	@Test
+	void whenQuotedFieldIsNotClosedThenReadFails() {
+		CsvReader reader = new CsvReader(new StringReader("\"open,field\n"));
+
+		assertThrows(IOException.class, reader::next);
+	}
+}
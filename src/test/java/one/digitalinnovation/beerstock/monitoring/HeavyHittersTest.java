@@ -0,0 +1,51 @@
+package one.digitalinnovation.beerstock.monitoring;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class HeavyHittersTest {
+
+	@Test
+	void whenStreamIsSkewedThenHottestKeysAreReportedInOrder() {
+		HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 3);
+
+		for (int i = 0; i < 10_000; i++) {
+			heavyHitters.record("beer-" + i);
+			if (i % 2 == 0) {
+				heavyHitters.record("Brahma");
+			}
+			if (i % 4 == 0) {
+				heavyHitters.record("Skol");
+			}
+			if (i % 8 == 0) {
+				heavyHitters.record("Heineken");
+			}
+		}
+
+		Map<String, Long> top = heavyHitters.snapshot();
+		assertThat(new ArrayList<>(top.keySet()), contains("Brahma", "Skol", "Heineken"));
+		assertThat(top.get("Brahma"), is(greaterThanOrEqualTo(5_000L)));
+	}
+
+	@Test
+	void whenDecayRunsThenCountsAreHalved() {
+		HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 3);
+		for (int i = 0; i < 100; i++) {
+			heavyHitters.record("Brahma");
+		}
+
+		heavyHitters.decay();
+
+		assertThat(heavyHitters.estimate("Brahma"), is(equalTo(50L)));
+		assertThat(heavyHitters.snapshot().keySet(), hasSize(1));
+	}
+}
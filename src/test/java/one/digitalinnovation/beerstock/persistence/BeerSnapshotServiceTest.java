@@ -0,0 +1,93 @@
+package one.digitalinnovation.beerstock.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+import one.digitalinnovation.beerstock.service.BeerService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:snapshot-load;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false"
+})
+class BeerSnapshotServiceTest {
+
+	@TempDir
+	Path directory;
+
+	@Autowired
+	private BeerSnapshotService snapshotService;
+
+	@Autowired
+	private BeerRepository beerRepository;
+
+	@Autowired
+	private BeerService beerService;
+
+	@AfterEach
+	void cleanup() {
+		beerRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void whenSnapshotIsLoadedThenRowsAreInsertedAndNamesStayUnique() throws Exception {
+		//given
+		Path path = snapshot(beer(1L, "Brahma"), beer(2L, "Skol"));
+
+		//when
+		long rows = snapshotService.load(path);
+
+		//then
+		assertThat(rows, is(equalTo(2L)));
+		assertThat(beerRepository.count(), is(equalTo(2L)));
+		assertThrows(BeerAlreadyRegisteredException.class,
+				() -> beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Skol").build().toBeerDTO()));
+	}
+
+	@Test
+	void whenSnapshotHasDuplicateNamesThenLoadFailsAndTableIsLeftEmptyWithItsConstraints() throws Exception {
+		//given
+		Path path = snapshot(beer(1L, "Brahma"), beer(2L, "Brahma"));
+
+		//when
+		assertThrows(DataIntegrityViolationException.class, () -> snapshotService.load(path));
+
+		//then
+		assertThat(snapshotService.isTableEmpty(), is(true));
+		beerRepository.saveAndFlush(beer(null, "Skol"));
+		assertThrows(DataIntegrityViolationException.class, () -> beerRepository.saveAndFlush(beer(null, "Skol")));
+	}
+
+	private Path snapshot(Beer... beers) throws Exception {
+		Path path = directory.resolve("beer.snapshot");
+		try (BeerSnapshot.Writer writer = BeerSnapshot.create(path)) {
+			for (Beer beer : beers) {
+				writer.append(beer);
+			}
+			writer.commit();
+		}
+		return path;
+	}
+
+	private static Beer beer(Long id, String name) {
+		Beer beer = BeerMapper.INSTANCE.toModel(BeerDTOBuilder.builder().name(name).build().toBeerDTO());
+		beer.setId(id);
+		return beer;
+	}
+}
@@ -0,0 +1,62 @@
+package one.digitalinnovation.beerstock.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.mapper.BeerMapper;
+
+class BeerSnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void whenSnapshotIsWrittenThenItIsReadBackUnchanged() throws IOException {
+		Path path = directory.resolve("beer.snapshot");
+		Beer brahma = BeerMapper.INSTANCE.toModel(BeerDTOBuilder.builder().build().toBeerDTO());
+		Beer skol = BeerMapper.INSTANCE.toModel(BeerDTOBuilder.builder().id(2L).name("Skol").build().toBeerDTO());
+
+		try (BeerSnapshot.Writer writer = BeerSnapshot.create(path)) {
+			writer.append(brahma);
+			writer.append(skol);
+			assertThat(writer.commit(), is(equalTo(2L)));
+		}
+
+		List<Beer> read = new ArrayList<>();
+		assertThat(BeerSnapshot.read(path, read::add), is(equalTo(2L)));
+		assertThat(read, contains(brahma, skol));
+	}
+
+	@Test
+	void whenWriterIsClosedWithoutCommitThenNoSnapshotIsLeftBehind() throws IOException {
+		Path path = directory.resolve("beer.snapshot");
+
+		try (BeerSnapshot.Writer writer = BeerSnapshot.create(path)) {
+			writer.append(BeerMapper.INSTANCE.toModel(BeerDTOBuilder.builder().build().toBeerDTO()));
+		}
+
+		assertThat(Files.exists(path), is(false));
+		assertThat(Files.list(directory).count(), is(equalTo(0L)));
+	}
+
+	@Test
+	void whenFileIsNotASnapshotThenAnExceptionIsThrown() throws IOException {
+		Path path = Files.write(directory.resolve("beer.snapshot"), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+		assertThrows(IOException.class, () -> BeerSnapshot.read(path, beer -> { }));
+	}
+}
@@ -0,0 +1,122 @@
+package one.digitalinnovation.beerstock.replication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaSetTest {
+
+	private JdbcTemplate primary;
+	private JdbcTemplate replica;
+	private ReplicaNode node;
+	private ReplicaSet replicaSet;
+	private ClientWriteTracker clientWriteTracker;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource primaryDataSource = inMemory("primary");
+		DriverManagerDataSource replicaDataSource = inMemory("replica");
+		primary = new JdbcTemplate(primaryDataSource);
+		replica = new JdbcTemplate(replicaDataSource);
+		primary.execute(ReplicaNode.CREATE_TABLE);
+		primary.update("INSERT INTO beer VALUES (1, 'Brahma', 'Ambev', 50, 10, 'LAGER', 0)");
+		node = new ReplicaNode("replica-0", replicaDataSource, primaryDataSource);
+		replicaSet = new ReplicaSet(primaryDataSource, Collections.singletonList(node), 1_000, System::currentTimeMillis);
+		clientWriteTracker = new ClientWriteTracker(10_000, System::currentTimeMillis);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ClientWriteTracker.clear();
+		node.shutdown();
+	}
+
+	@Test
+	void whenReplicaHasNotBeenSyncedThenReadsGoToPrimary() {
+		assertThat(replicaSet.select(0), is(nullValue()));
+	}
+
+	@Test
+	void whenHealthCheckRunsThenReplicaIsCopiedFromPrimaryAndServesReads() {
+		replicaSet.checkHealth();
+		await(node::isAvailable);
+
+		assertThat(replicaSet.select(0), is(node));
+		assertThat(replica.queryForObject("SELECT quantity FROM beer WHERE id = 1", Integer.class), is(equalTo(10)));
+	}
+
+	@Test
+	void whenStockChangesThenReplicaAppliesItInSequence() {
+		replicaSet.checkHealth();
+		await(node::isAvailable);
+
+		primary.update("UPDATE beer SET quantity = 20 WHERE id = 1");
+		long sequence = replicaSet.replicate(1L);
+		await(() -> node.getAppliedSequence() >= sequence);
+
+		assertThat(replica.queryForObject("SELECT quantity FROM beer WHERE id = 1", Integer.class), is(equalTo(20)));
+		assertThat(replicaSet.select(sequence), is(node));
+		assertThat(replicaSet.select(sequence + 1), is(nullValue()));
+	}
+
+	@Test
+	void whenClientHasWrittenThenItsReadsStayOnPrimaryUntilReplicaCatchesUp() {
+		replicaSet.checkHealth();
+		await(node::isAvailable);
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicaSet, clientWriteTracker);
+		ClientWriteTracker.bind("key:writer");
+		clientWriteTracker.recordWrite(node.getAppliedSequence() + 1);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try {
+			assertThat(routing.determineCurrentLookupKey(), is(equalTo(ReplicaRoutingDataSource.PRIMARY)));
+			ClientWriteTracker.bind("key:reader");
+			assertThat(routing.determineCurrentLookupKey(), is(equalTo("replica-0")));
+		} finally {
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		}
+		assertThat(routing.determineCurrentLookupKey(), is(equalTo(ReplicaRoutingDataSource.PRIMARY)));
+	}
+
+	@Test
+	void whenReplicaFailsThenItIsResyncedOnRecovery() {
+		replicaSet.checkHealth();
+		await(node::isAvailable);
+
+		replica.execute("DROP TABLE beer");
+		primary.update("UPDATE beer SET quantity = 30 WHERE id = 1");
+		long sequence = replicaSet.replicate(1L);
+		await(() -> node.getAppliedSequence() >= sequence);
+		assertThat(replicaSet.select(0), is(nullValue()));
+
+		replicaSet.checkHealth();
+		await(node::isAvailable);
+		assertThat(replica.queryForObject("SELECT quantity FROM beer WHERE id = 1", Integer.class), is(equalTo(30)));
+	}
+
+	private static DriverManagerDataSource inMemory(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new AssertionError("Condition not met in time");
+			}
+			Thread.onSpinWait();
+		}
+	}
+}
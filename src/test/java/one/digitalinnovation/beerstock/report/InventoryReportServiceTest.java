@@ -0,0 +1,111 @@
+package one.digitalinnovation.beerstock.report;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.InventoryReportDTO;
+import one.digitalinnovation.beerstock.service.BeerService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:report;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false",
+		"beerstock.report.directory=target/test-reports",
+		"beerstock.report.page-size=5"
+})
+class InventoryReportServiceTest {
+
+	private static final int BEERS = 2_000;
+	private static final int QUANTITY = 50;
+
+	@Autowired
+	private InventoryReportService inventoryReportService;
+
+	@Autowired
+	private BeerService beerService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void whenStockMovesDuringTheReportThenTotalsMatchASinglePointInTime() throws Exception {
+		//given
+		long[] ids = new long[BEERS];
+		for (int i = 0; i < BEERS; i++) {
+			ids[i] = beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Report " + i)
+					.max(100).quantity(QUANTITY).build().toBeerDTO()).getId();
+		}
+		AtomicBoolean moving = new AtomicBoolean(true);
+		AtomicLong transfers = new AtomicLong();
+		// Each transfer moves one unit between two beers in one transaction, so every committed state has the same total.
+		Thread mover = new Thread(() -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			while (moving.get()) {
+				long from = ids[random.nextInt(BEERS)];
+				long to = ids[random.nextInt(BEERS)];
+				try {
+					transactionTemplate.executeWithoutResult(status -> {
+						try {
+							beerService.decrement(from, 1);
+							beerService.increment(to, 1);
+						} catch (Exception e) {
+							status.setRollbackOnly();
+						}
+					});
+					transfers.incrementAndGet();
+				} catch (RuntimeException e) {
+					// lost a race on the same pair of rows; try another
+				}
+			}
+		});
+		mover.start();
+
+		//when
+		InventoryReportDTO report;
+		try {
+			while (transfers.get() < 50) {
+				Thread.sleep(10);
+			}
+			report = awaitFinished(inventoryReportService.start().getId());
+		} finally {
+			moving.set(false);
+			mover.join();
+		}
+
+		//then
+		assertThat(report.getState(), is(equalTo("COMPLETED")));
+		assertThat(report.getBeers(), is(equalTo((long) BEERS)));
+		assertThat(report.getTotalQuantity(), is(equalTo((long) BEERS * QUANTITY)));
+		List<String> lines = Files.readAllLines(inventoryReportService.file(report.getId()), StandardCharsets.UTF_8);
+		assertThat(lines.size(), is(equalTo(BEERS + 1)));
+		assertThat(lines.get(0), is(equalTo("id,name,brand,type,max,quantity")));
+		long total = lines.stream().skip(1).mapToLong(line -> Long.parseLong(line.substring(line.lastIndexOf(',') + 1))).sum();
+		assertThat(total, is(equalTo((long) BEERS * QUANTITY)));
+	}
+
+	private InventoryReportDTO awaitFinished(String id) throws Exception {
+		for (int attempt = 0; attempt < 300; attempt++) {
+			InventoryReportDTO status = inventoryReportService.status(id);
+			if (status.getState().equals("COMPLETED") || status.getState().equals("FAILED")) {
+				return status;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("Report " + id + " did not finish");
+	}
+
+}
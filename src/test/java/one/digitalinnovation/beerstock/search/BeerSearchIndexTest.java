@@ -0,0 +1,111 @@
+package one.digitalinnovation.beerstock.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+
+class BeerSearchIndexTest {
+
+	private BeerSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new BeerSearchIndex();
+		index.put(new Beer(1L, "Brahma", "Ambev", 50, 10, BeerType.LAGER));
+		index.put(new Beer(2L, "Brahma Duplo Malte", "Ambev", 50, 10, BeerType.LAGER));
+		index.put(new Beer(3L, "Bohemia Weiss", "Ambev", 50, 10, BeerType.WEISS));
+		index.put(new Beer(4L, "Heineken", "Heineken", 50, 10, BeerType.LAGER));
+		index.put(new Beer(5L, "Colorado Indica", "Cervejaria Colorado", 50, 10, BeerType.IPA));
+	}
+
+	@Test
+	void whenQueryIsAPrefixThenMatchingNamesAreReturnedExactWordsFirst() {
+		assertThat(names(index.search("brah", null, 10)), contains("Brahma", "Brahma Duplo Malte"));
+		assertThat(names(index.search("brahma", null, 10)), contains("Brahma", "Brahma Duplo Malte"));
+	}
+
+	@Test
+	void whenQueryMatchesBrandThenNameMatchesRankHigher() {
+		assertThat(names(index.search("colorado", null, 10)), contains("Colorado Indica"));
+		assertThat(names(index.search("heineken", null, 10)), contains("Heineken"));
+		assertThat(index.search("ambev", null, 10).size(), is(equalTo(3)));
+	}
+
+	@Test
+	void whenQueryHasATypoThenCloseTermsStillMatch() {
+		assertThat(names(index.search("heiniken", null, 10)), contains("Heineken"));
+		assertThat(names(index.search("bohemai", null, 10)), contains("Bohemia Weiss"));
+	}
+
+	@Test
+	void whenQueryHasSeveralWordsThenAllMustMatch() {
+		assertThat(names(index.search("brahma malte", null, 10)), contains("Brahma Duplo Malte"));
+		assertThat(index.search("brahma stout", null, 10), is(empty()));
+	}
+
+	@Test
+	void whenLongestWordIsCommonThenRarerWordStillFindsTheBeer() {
+		for (long id = 100; id < 400; id++) {
+			index.put(new Beer(id, "Supplier beer " + id, "Supplier", 50, 10, BeerType.LAGER));
+		}
+
+		assertThat(names(index.search("supplier beer 399", null, 1)), contains("Supplier beer 399"));
+	}
+
+	@Test
+	void whenTypeIsGivenThenOnlyThatTypeIsReturned() {
+		assertThat(names(index.search("ambev", BeerType.WEISS, 10)), contains("Bohemia Weiss"));
+	}
+
+	@Test
+	void whenBeerIsRemovedOrUpdatedThenIndexFollows() {
+		index.remove(1L);
+		index.put(new Beer(4L, "Heineken", "Heineken", 50, 42, BeerType.LAGER));
+
+		assertThat(names(index.search("brahma", null, 10)), contains("Brahma Duplo Malte"));
+		assertThat(index.search("heineken", null, 10).get(0).getQuantity(), is(equalTo(42)));
+	}
+
+	@Test
+	void whenEditDistanceExceedsLimitThenItStopsEarly() {
+		assertThat(BeerSearchIndex.editDistance("kitten", "sitting", 3), is(equalTo(3)));
+		assertThat(BeerSearchIndex.editDistance("kitten", "sitting", 1), is(equalTo(2)));
+	}
+
+	@Test
+	void whenManyBeersOfACommonBrandAreRemovedThenTheRestStayFindable() {
+		for (long id = 1000; id < 1300; id++) {
+			index.put(new Beer(id, "Shared Ipa " + id, "Shared", 50, 10, BeerType.IPA));
+		}
+		for (long id = 1000; id < 1300; id++) {
+			if (id % 3 != 0) {
+				index.remove(id);
+			}
+		}
+		index.put(new Beer(2000L, "Shared Ipa Ipa", "Shared", 50, 10, BeerType.IPA));
+
+		for (long id = 1000; id < 1300; id++) {
+			List<String> found = names(index.search("shared " + id, null, 10));
+			assertThat(found.contains("Shared Ipa " + id), is(id % 3 == 0));
+		}
+		assertThat(names(index.search("shared ipa ipa", null, 200)).get(0), is(equalTo("Shared Ipa Ipa")));
+		index.remove(2000L);
+		assertThat(names(index.search("shared ipa ipa", null, 1000)).contains("Shared Ipa Ipa"), is(false));
+		assertThat(index.search("shared", null, 1000).size(), is(equalTo(100)));
+	}
+
+	private static List<String> names(List<Beer> beers) {
+		return beers.stream().map(Beer::getName).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,100 @@
+package one.digitalinnovation.beerstock.service;
+
+import static one.digitalinnovation.beerstock.util.SqlStatementAssertions.assertMaxStatements;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.BulkDeleteDTO;
+import one.digitalinnovation.beerstock.dto.BulkDeleteResultDTO;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:purge;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false"
+})
+class BeerPurgeServiceTest {
+
+	@Autowired
+	private BeerService beerService;
+
+	@Autowired
+	private BeerPurgeService beerPurgeService;
+
+	@Autowired
+	private BeerRepository beerRepository;
+
+	@Test
+	void whenIdsAreDeletedThenExistingBeersAreRemovedAndUnknownIdsReported() throws Exception {
+		//given
+		Long first = create("Purge 1", "Purge", BeerType.LAGER);
+		Long second = create("Purge 2", "Purge", BeerType.LAGER);
+		Long unknown = -1L;
+
+		//when
+		BulkDeleteResultDTO result = beerPurgeService.delete(BulkDeleteDTO.builder()
+				.ids(Arrays.asList(first, unknown, second, first))
+				.build());
+
+		//then
+		assertThat(result.getDeleted(), is(equalTo(2)));
+		assertThat(result.getMissingIds(), contains(unknown));
+		assertThat(beerRepository.existsById(first), is(false));
+		assertThat(beerRepository.existsById(second), is(false));
+	}
+
+	@Test
+	void whenBrandIsDeletedThenEveryBeerOfThatBrandIsRemovedInChunks() throws Exception {
+		//given
+		int beers = BeerPurgeService.CHUNK_SIZE * 2 + 1;
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < beers; i++) {
+			ids.add(create("Discontinued " + i, "Discontinued", BeerType.ALE));
+		}
+		Long kept = create("Kept", "Kept", BeerType.ALE);
+
+		//when
+		BulkDeleteResultDTO result = assertMaxStatements(1 + 3 * 2, () -> beerPurgeService.delete(BulkDeleteDTO.builder()
+				.brand("Discontinued")
+				.build()));
+
+		//then
+		assertThat(result.getDeleted(), is(equalTo(beers)));
+		assertThat(result.getMissingIds(), is(empty()));
+		assertThat(beerRepository.findAllById(ids), is(empty()));
+		assertThat(beerRepository.existsById(kept), is(true));
+	}
+
+	@Test
+	void whenTypeIsDeletedThenOnlyBeersOfThatTypeAreRemoved() throws Exception {
+		//given
+		Long removed = create("Witbier", "Wit", BeerType.WITBIER);
+		Long kept = create("Stout", "Wit", BeerType.STOUT);
+
+		//when
+		BulkDeleteResultDTO result = beerPurgeService.delete(BulkDeleteDTO.builder().type(BeerType.WITBIER).build());
+
+		//then
+		assertThat(result.getDeleted(), is(equalTo(1)));
+		assertThat(beerRepository.existsById(removed), is(false));
+		assertThat(beerRepository.existsById(kept), is(true));
+	}
+
+	private Long create(String name, String brand, BeerType type) throws Exception {
+		return beerService.createBeer(BeerDTOBuilder.builder().id(null).name(name).brand(brand).type(type).build().toBeerDTO()).getId();
+	}
+
+}
@@ -0,0 +1,81 @@
+package one.digitalinnovation.beerstock.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false"
+})
+class BeerServiceConcurrencyTest {
+
+	private static final int THREADS = 8;
+	private static final int OPERATIONS_PER_THREAD = 200;
+
+	@Autowired
+	private BeerService beerService;
+
+	@Test
+	void whenIncrementsAndDecrementsRaceThenFinalQuantityMatchesTheAcceptedOperations() throws Exception {
+		//given
+		BeerDTO beer = beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Contended").max(20).quantity(10).build().toBeerDTO());
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> nets = new ArrayList<>();
+
+		//when
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				boolean incrementing = t % 2 == 0;
+				nets.add(executor.submit(() -> {
+					int net = 0;
+					start.await();
+					for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+						try {
+							if (incrementing) {
+								beerService.increment(beer.getId(), 3);
+								net += 3;
+							} else {
+								beerService.decrement(beer.getId(), 2);
+								net -= 2;
+							}
+						} catch (BeerStockExceededException | BeerStockLessThanZeroException e) {
+							// refused at the bounds, not counted
+						}
+					}
+					return net;
+				}));
+			}
+			start.countDown();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		int net = 0;
+		for (Future<Integer> result : nets) {
+			net += result.get();
+		}
+
+		//then
+		assertThat(beerService.findByName("Contended").getQuantity(), is(equalTo(beer.getQuantity() + net)));
+	}
+}
@@ -0,0 +1,55 @@
+package one.digitalinnovation.beerstock.service;
+
+import static one.digitalinnovation.beerstock.util.SqlStatementAssertions.assertMaxStatements;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false"
+})
+class BeerServiceStatementCountTest {
+
+	@Autowired
+	private BeerService beerService;
+
+	@Test
+	void whenBeerIsCreatedThenAtMostALookupAndAnInsertAreIssued() throws Exception {
+		BeerDTO beerDTO = BeerDTOBuilder.builder().id(null).name("Created").build().toBeerDTO();
+
+		assertMaxStatements(2, () -> beerService.createBeer(beerDTO));
+	}
+
+	@Test
+	void whenBeerIsReadThenASingleSelectIsIssued() throws Exception {
+		BeerDTO beerDTO = beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Read").build().toBeerDTO());
+
+		assertMaxStatements(1, () -> beerService.findByName(beerDTO.getName()));
+		assertMaxStatements(1, () -> beerService.listAll());
+	}
+
+	@Test
+	void whenStockChangesThenAtMostALockingSelectAndAnUpdateAreIssued() throws Exception {
+		BeerDTO beerDTO = beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Stock").build().toBeerDTO());
+
+		assertMaxStatements(2, () -> beerService.increment(beerDTO.getId(), 1));
+		assertMaxStatements(2, () -> beerService.decrement(beerDTO.getId(), 1));
+	}
+
+	@Test
+	void whenBeerIsDeletedThenAtMostALookupAndADeleteAreIssued() throws Exception {
+		BeerDTO beerDTO = beerService.createBeer(BeerDTOBuilder.builder().id(null).name("Deleted").build().toBeerDTO());
+
+		assertMaxStatements(2, () -> {
+			beerService.deleteById(beerDTO.getId());
+			return null;
+		});
+	}
+
+}
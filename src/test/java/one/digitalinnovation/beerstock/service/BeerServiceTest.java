@@ -26,11 +26,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
 import one.digitalinnovation.beerstock.dto.BeerDTO;
 import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerChangePublisher;
 import one.digitalinnovation.beerstock.exception.BeerAlreadyRegisteredException;
 import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
 import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
 import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
 import one.digitalinnovation.beerstock.mapper.BeerMapper;
+import one.digitalinnovation.beerstock.monitoring.HotKeyTracker;
 import one.digitalinnovation.beerstock.repository.BeerRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +43,12 @@ class BeerServiceTest {
 	@Mock
 	private BeerRepository beerRepository;
 	
+	@Mock
+	private HotKeyTracker hotKeyTracker;
+	
+	@Mock
+	private BeerChangePublisher beerChangePublisher;
+	
 	private BeerMapper beerMapper = BeerMapper.INSTANCE;
 	
 	@InjectMocks
@@ -138,20 +146,20 @@ class BeerServiceTest {
 		Beer expectedDeletedBeer = beerMapper.toModel(expectedDeletedBeerDTO);
 		
 		//when
-		when(beerRepository.findById(expectedDeletedBeerDTO.getId())).thenReturn(Optional.of(expectedDeletedBeer));
-		doNothing().when(beerRepository).deleteById(expectedDeletedBeerDTO.getId());
+		when(beerRepository.findForUpdateById(expectedDeletedBeerDTO.getId())).thenReturn(Optional.of(expectedDeletedBeer));
+		doNothing().when(beerRepository).delete(expectedDeletedBeer);
 		
 		//then
 		beerService.deleteById(expectedDeletedBeerDTO.getId());
 		
-		verify(beerRepository, times(1)).findById(expectedDeletedBeerDTO.getId());
-		verify(beerRepository, times(1)).deleteById(expectedDeletedBeerDTO.getId());
+		verify(beerRepository, times(1)).findForUpdateById(expectedDeletedBeerDTO.getId());
+		verify(beerRepository, times(1)).delete(expectedDeletedBeer);
 	}
 	
 	@Test
 	void whenExclusionIsCalledWithInValidIdThenThrowAnException() throws BeerNotFoundException {
 		//when
-		when(beerRepository.findById(INVALID_ID)).thenReturn(Optional.empty());
+		when(beerRepository.findForUpdateById(INVALID_ID)).thenReturn(Optional.empty());
 		
 		//then
 		assertThrows(BeerNotFoundException.class, () -> beerService.deleteById(INVALID_ID));
@@ -164,8 +172,8 @@ class BeerServiceTest {
 		Beer expectedBeer = beerMapper.toModel(expectedBeerDTO);
 		
 		//when
-		when(beerRepository.findById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
-		when(beerRepository.save(expectedBeer)).thenReturn(expectedBeer);
+		when(beerRepository.findForUpdateById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
+		when(beerRepository.saveAndFlush(expectedBeer)).thenReturn(expectedBeer);
 		
 		int quantityToIncrement = 5;
 		int expectedQuantityAfterIncrement = expectedBeerDTO.getQuantity() + quantityToIncrement;
@@ -184,7 +192,7 @@ class BeerServiceTest {
 		Beer expectedBeer = beerMapper.toModel(expectedBeerDTO);
 		
 		//when
-		when(beerRepository.findById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
+		when(beerRepository.findForUpdateById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
 		
 		int quantityToIncrement = 55;
 		
@@ -200,8 +208,8 @@ class BeerServiceTest {
 		Beer expectedBeer = beerMapper.toModel(expectedBeerDTO);
 		
 		//when
-		when(beerRepository.findById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
-		when(beerRepository.save(expectedBeer)).thenReturn(expectedBeer);
+		when(beerRepository.findForUpdateById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
+		when(beerRepository.saveAndFlush(expectedBeer)).thenReturn(expectedBeer);
 		
 		int quantityToDecrement = 10;
 		int expectedQuantityAfterDecrement = expectedBeerDTO.getQuantity() - quantityToDecrement;
@@ -220,7 +228,7 @@ class BeerServiceTest {
 		Beer expectedBeer = beerMapper.toModel(expectedBeerDTO);
 		
 		//when
-		when(beerRepository.findById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
+		when(beerRepository.findForUpdateById(expectedBeerDTO.getId())).thenReturn(Optional.of(expectedBeer));
 		
 		int quantityToDecrement = 11;
 		
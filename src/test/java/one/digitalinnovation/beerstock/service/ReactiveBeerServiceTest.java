@@ -0,0 +1,78 @@
+package one.digitalinnovation.beerstock.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+import one.digitalinnovation.beerstock.exception.BeerStockLessThanZeroException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:reactive-stock;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+		"spring.r2dbc.url=r2dbc:h2:mem:///reactive-stock?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+		"beerstock.audit.enabled=false"
+})
+class ReactiveBeerServiceTest {
+
+	@Autowired
+	private ReactiveBeerService beerService;
+
+	@Test
+	void whenQuantityIsOutOfRangeOrBeerIsUnknownThenMatchingErrorIsReturned() {
+		//given
+		BeerDTO beer = create("Reactive Range", 10, 50);
+
+		//then
+		StepVerifier.create(beerService.increment(beer.getId(), 41))
+				.expectError(BeerStockExceededException.class)
+				.verify();
+		StepVerifier.create(beerService.decrement(beer.getId(), 11))
+				.expectError(BeerStockLessThanZeroException.class)
+				.verify();
+		StepVerifier.create(beerService.increment(-1L, 1))
+				.expectError(BeerNotFoundException.class)
+				.verify();
+		StepVerifier.create(beerService.increment(beer.getId(), 40))
+				.assertNext(incremented -> assertThat(incremented.getQuantity(), is(equalTo(50))))
+				.verifyComplete();
+	}
+
+	@Test
+	void whenIncrementsRaceThenNoneIsLostAndMaxIsNeverExceeded() {
+		//given
+		BeerDTO beer = create("Reactive Race", 0, 1500);
+
+		//when
+		Long accepted = Flux.range(0, 2000)
+				.flatMap(i -> beerService.increment(beer.getId(), 1)
+						.map(incremented -> 1L)
+						.onErrorResume(BeerStockExceededException.class, e -> Mono.just(0L))
+						.subscribeOn(Schedulers.boundedElastic()), 32)
+				.reduce(0L, Long::sum)
+				.block(Duration.ofMinutes(1));
+
+		//then
+		assertThat(accepted, is(equalTo(1500L)));
+		assertThat(beerService.findByName("Reactive Race").block().getQuantity(), is(equalTo(1500)));
+	}
+
+	private BeerDTO create(String name, int quantity, int max) {
+		BeerDTO beer = BeerDTOBuilder.builder().id(null).name(name).quantity(quantity).max(max).build().toBeerDTO();
+		return beerService.createBeer(beer).block();
+	}
+}
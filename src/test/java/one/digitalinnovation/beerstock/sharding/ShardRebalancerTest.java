@@ -0,0 +1,109 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ShardRebalancerTest {
+
+	private ShardSet shardSet;
+	private ShardDirectory directory;
+	private ShardRebalancer rebalancer;
+
+	@BeforeEach
+	void setUp() {
+		shardSet = new ShardSet(Arrays.asList(inMemory("shard-0"), inMemory("shard-1")), 64);
+		shardSet.initialize();
+		directory = shardSet.getDirectory();
+		rebalancer = new ShardRebalancer(shardSet);
+	}
+
+	@AfterEach
+	void tearDown() {
+		shardSet.shutdown();
+	}
+
+	@Test
+	void whenShardsAreCreatedThenEachHandsOutIdsFromItsOwnResidueClass() {
+		JdbcTemplate shard0 = jdbc(0);
+		JdbcTemplate shard1 = jdbc(1);
+		shard0.update("INSERT INTO beer (name, brand, max, quantity, type) VALUES ('a', 'x', 10, 1, 'LAGER')");
+		shard0.update("INSERT INTO beer (name, brand, max, quantity, type) VALUES ('b', 'x', 10, 1, 'LAGER')");
+		shard1.update("INSERT INTO beer (name, brand, max, quantity, type) VALUES ('c', 'x', 10, 1, 'LAGER')");
+
+		assertThat(shard0.queryForList("SELECT id FROM beer ORDER BY id", Long.class), is(equalTo(Arrays.asList(1L, 65L))));
+		assertThat(shard1.queryForList("SELECT id FROM beer", Long.class), is(equalTo(Arrays.asList(2L))));
+	}
+
+	@Test
+	void whenBeersAreMisplacedThenRebalanceMovesThemKeepingTheirIds() {
+		for (int i = 0; i < 20; i++) {
+			String name = "Beer " + i;
+			int wrongShard = 1 - directory.placementFor(name);
+			long id = 1000 + i;
+			jdbc(wrongShard).update("INSERT INTO beer VALUES (?, ?, 'x', 10, ?, 'LAGER', 0)", id, name, i);
+			directory.register(id, name, wrongShard);
+		}
+		assertThat(rebalancer.misplaced(), is(equalTo(20L)));
+
+		assertThat(rebalancer.rebalance(), is(equalTo(20L)));
+
+		assertThat(rebalancer.misplaced(), is(equalTo(0L)));
+		for (int i = 0; i < 20; i++) {
+			String name = "Beer " + i;
+			int shard = directory.placementFor(name);
+			assertThat(directory.shardOfName(name), is(equalTo(shard)));
+			assertThat(directory.shardOfId(1000L + i), is(equalTo(shard)));
+			assertThat(jdbc(shard).queryForObject("SELECT quantity FROM beer WHERE id = ?", Integer.class, 1000L + i), is(equalTo(i)));
+		}
+		assertThat(directory.countOn(0) + directory.countOn(1), is(equalTo(20L)));
+	}
+
+	@Test
+	void whenSourceTransactionRollsBackThenTheCopyIsRemovedAndTheDirectoryIsUnchanged() {
+		String name = "Pinned";
+		int wrongShard = 1 - directory.placementFor(name);
+		jdbc(wrongShard).update("INSERT INTO beer VALUES (500, ?, 'x', 10, 3, 'LAGER', 0)", name);
+		jdbc(wrongShard).update("CREATE TABLE pin (beer_id BIGINT REFERENCES beer(id))");
+		jdbc(wrongShard).update("INSERT INTO pin VALUES (500)");
+		directory.register(500L, name, wrongShard);
+
+		assertThrows(DataIntegrityViolationException.class, () -> rebalancer.rebalance());
+
+		assertThat(jdbc(1 - wrongShard).queryForObject("SELECT COUNT(*) FROM beer", Long.class), is(equalTo(0L)));
+		assertThat(jdbc(wrongShard).queryForObject("SELECT quantity FROM beer WHERE id = 500", Integer.class), is(equalTo(3)));
+		assertThat(directory.shardOfId(500L), is(equalTo(wrongShard)));
+		assertThat(directory.shardOfName(name), is(equalTo(wrongShard)));
+	}
+
+	@Test
+	void whenShardSetIsInitializedThenDirectoryIsRebuiltFromShards() {
+		jdbc(1).update("INSERT INTO beer VALUES (7, 'Brahma', 'Ambev', 10, 1, 'LAGER', 0)");
+
+		shardSet.initialize();
+
+		assertThat(directory.shardOfId(7L), is(equalTo(1)));
+		assertThat(directory.shardOfName("Brahma"), is(equalTo(1)));
+	}
+
+	private JdbcTemplate jdbc(int shard) {
+		return new JdbcTemplate(shardSet.getShard(shard));
+	}
+
+	private static DataSource inMemory(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+}
@@ -0,0 +1,192 @@
+package one.digitalinnovation.beerstock.sharding;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.enums.BeerType;
+import one.digitalinnovation.beerstock.repository.BeerRepository;
+
+@ActiveProfiles("sharded")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"beerstock.sharding.shards[0].url=jdbc:h2:mem:aspect-shard-0;DB_CLOSE_DELAY=-1",
+		"beerstock.sharding.shards[1].url=jdbc:h2:mem:aspect-shard-1;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false"
+})
+class ShardedRepositoryAspectTest {
+
+	private static final int BEERS = 12;
+
+	@Autowired
+	private BeerRepository beerRepository;
+
+	@Autowired
+	private ShardSet shardSet;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final List<Beer> saved = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < BEERS; i++) {
+			saved.add(beerRepository.save(beer("Beer " + i)));
+		}
+		assertThat(shardsOf(saved), containsInAnyOrder(0, 1));
+	}
+
+	@AfterEach
+	void cleanup() {
+		beerRepository.deleteAllInBatch();
+		assertThat(rowsOn(0) + rowsOn(1), is(equalTo(0L)));
+	}
+
+	@Test
+	void whenBeersAreSavedThenEachLandsOnTheShardItsNameHashesTo() {
+		//then
+		for (Beer beer : saved) {
+			int shard = shardSet.getDirectory().placementFor(beer.getName());
+			assertThat(jdbc(shard).queryForObject("SELECT name FROM beer WHERE id = ?", String.class, beer.getId()),
+					is(equalTo(beer.getName())));
+			assertThat((beer.getId() - 1) % 64, is(equalTo((long) shard)));
+		}
+	}
+
+	@Test
+	void whenBeersAreLookedUpByIdOrNameThenTheOwningShardAnswers() {
+		//then
+		for (Beer beer : saved) {
+			assertThat(beerRepository.findById(beer.getId()).get().getName(), is(equalTo(beer.getName())));
+			assertThat(beerRepository.findByName(beer.getName()).get().getId(), is(equalTo(beer.getId())));
+			assertThat(beerRepository.existsById(beer.getId()), is(true));
+		}
+		assertThat(beerRepository.findById(-1L).isPresent(), is(false));
+		assertThat(beerRepository.existsById(-1L), is(false));
+	}
+
+	@Test
+	void whenWholeTableIsReadThenEveryShardIsMergedInOrder() {
+		//given
+		List<String> names = saved.stream().map(Beer::getName).sorted().collect(Collectors.toList());
+
+		//when
+		List<Beer> byId = beerRepository.findAll();
+		List<Beer> byName = beerRepository.findAll(Sort.by("name").descending());
+		Page<Beer> page = beerRepository.findAll(PageRequest.of(1, 5, Sort.by("name")));
+
+		//then
+		assertThat(ids(byId), is(equalTo(saved.stream().map(Beer::getId).sorted().collect(Collectors.toList()))));
+		assertThat(byName.get(0).getName(), is(equalTo(names.get(BEERS - 1))));
+		assertThat(byName.get(BEERS - 1).getName(), is(equalTo(names.get(0))));
+		assertThat(page.getTotalElements(), is(equalTo((long) BEERS)));
+		assertThat(page.getContent().stream().map(Beer::getName).collect(Collectors.toList()),
+				is(equalTo(names.subList(5, 10))));
+		assertThat(beerRepository.count(), is(equalTo((long) BEERS)));
+	}
+
+	@Test
+	void whenBatchCallsSpanShardsThenTheyAreSplitPerShard() {
+		//given
+		List<Beer> batch = Arrays.asList(beer("Batch A"), beer("Batch B"), beer("Batch C"), beer("Batch D"));
+
+		//when
+		List<Beer> inserted = beerRepository.saveAll(batch);
+		List<Long> insertedIds = ids(inserted);
+
+		//then
+		assertThat(shardsOf(inserted), containsInAnyOrder(0, 1));
+		assertThat(beerRepository.findAllById(insertedIds).stream().map(Beer::getName).collect(Collectors.toList()),
+				containsInAnyOrder("Batch A", "Batch B", "Batch C", "Batch D"));
+		beerRepository.deleteAll(inserted);
+		assertThat(beerRepository.findAllById(insertedIds), is(empty()));
+		assertThat(beerRepository.count(), is(equalTo((long) BEERS)));
+	}
+
+	@Test
+	void whenTransactionTouchesASecondShardThenItFailsAndUnbinds() {
+		//given
+		Beer first = onShard(0);
+		Beer second = onShard(1);
+
+		//when
+		IllegalStateException exception = assertThrows(IllegalStateException.class, () -> transactionTemplate.execute(status -> {
+			beerRepository.findById(first.getId());
+			return beerRepository.findById(second.getId());
+		}));
+
+		//then
+		assertThat(exception.getMessage(), is(equalTo("Transaction is bound to shard 0 but "
+				+ "CrudRepository.findById(..) needs shard 1")));
+		assertThat(ShardContext.current(), is(nullValue()));
+		assertThat(transactionTemplate.execute(status -> beerRepository.findById(second.getId()).get().getName()),
+				is(equalTo(second.getName())));
+	}
+
+	@Test
+	void whenTransactionStaysOnOneShardThenItsWritesCommitThere() {
+		//given
+		Beer beer = onShard(1);
+
+		//when
+		transactionTemplate.execute(status -> {
+			Beer locked = beerRepository.findForUpdateById(beer.getId()).get();
+			locked.setQuantity(7);
+			return beerRepository.save(locked);
+		});
+
+		//then
+		assertThat(jdbc(1).queryForObject("SELECT quantity FROM beer WHERE id = ?", Integer.class, beer.getId()), is(equalTo(7)));
+		assertThat(ShardContext.current(), is(nullValue()));
+	}
+
+	private Beer onShard(int shard) {
+		return saved.stream()
+				.filter(beer -> shardSet.getDirectory().shardOfId(beer.getId()) == shard)
+				.findFirst()
+				.get();
+	}
+
+	private List<Integer> shardsOf(List<Beer> beers) {
+		return beers.stream().map(beer -> shardSet.getDirectory().shardOfId(beer.getId())).distinct().collect(Collectors.toList());
+	}
+
+	private long rowsOn(int shard) {
+		return jdbc(shard).queryForObject("SELECT COUNT(*) FROM beer", Long.class);
+	}
+
+	private JdbcTemplate jdbc(int shard) {
+		return new JdbcTemplate(shardSet.getShard(shard));
+	}
+
+	private static List<Long> ids(List<Beer> beers) {
+		return beers.stream().map(Beer::getId).collect(Collectors.toList());
+	}
+
+	private static Beer beer(String name) {
+		return new Beer(null, name, "Sharded", 50, 10, BeerType.LAGER);
+	}
+}
@@ -0,0 +1,23 @@
+package one.digitalinnovation.beerstock.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.Callable;
+
+import one.digitalinnovation.beerstock.monitoring.SqlStatementStats;
+
+public class SqlStatementAssertions {
+
+	public static <T> T assertMaxStatements(int maxStatements, Callable<T> operation) throws Exception {
+		T result;
+		int statements;
+		try (SqlStatementStats stats = SqlStatementStats.start()) {
+			result = operation.call();
+			statements = stats.getStatements();
+		}
+		assertThat("JDBC statements executed", statements, lessThanOrEqualTo(maxStatements));
+		return result;
+	}
+
+}
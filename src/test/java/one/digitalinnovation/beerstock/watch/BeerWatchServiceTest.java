@@ -0,0 +1,157 @@
+package one.digitalinnovation.beerstock.watch;
+
+import static one.digitalinnovation.beerstock.util.SqlStatementAssertions.assertMaxStatements;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import one.digitalinnovation.beerstock.builder.BeerDTOBuilder;
+import one.digitalinnovation.beerstock.dto.BeerDTO;
+import one.digitalinnovation.beerstock.dto.BeerWatchDTO;
+import one.digitalinnovation.beerstock.entity.Beer;
+import one.digitalinnovation.beerstock.event.BeerChangeEvent;
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.service.BeerService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+		"spring.datasource.url=jdbc:h2:mem:watch;DB_CLOSE_DELAY=-1",
+		"beerstock.audit.enabled=false",
+		"beerstock.swagger.enabled=false"
+})
+class BeerWatchServiceTest {
+
+	@Autowired
+	private BeerService beerService;
+
+	@Autowired
+	private BeerWatchService beerWatchService;
+
+	@Test
+	void whenWatchIsCalledWithoutVersionThenCurrentStateIsReturnedAtOnce() throws Exception {
+		//given
+		BeerDTO beer = create("Watch Now");
+
+		//when
+		DeferredResult<ResponseEntity<BeerWatchDTO>> result = beerWatchService.watch(beer.getId(), null, 1000);
+
+		//then
+		assertThat(result.hasResult(), is(true));
+		BeerWatchDTO watch = body(result);
+		assertThat(watch.getBeer().getQuantity(), is(equalTo(beer.getQuantity())));
+		assertThat(watch.isDeleted(), is(false));
+	}
+
+	@Test
+	void whenQuantityChangesThenParkedWatchIsCompletedWithoutQueries() throws Exception {
+		//given
+		BeerDTO beer = create("Watch Wake");
+		long version = body(beerWatchService.watch(beer.getId(), null, 1000)).getVersion();
+
+		//when
+		DeferredResult<ResponseEntity<BeerWatchDTO>> result = assertMaxStatements(0,
+				() -> beerWatchService.watch(beer.getId(), version, 60_000));
+		assertThat(result.hasResult(), is(false));
+		beerService.increment(beer.getId(), 3);
+
+		//then
+		assertThat(result.hasResult(), is(true));
+		BeerWatchDTO watch = body(result);
+		assertThat(watch.getVersion(), is(greaterThan(version)));
+		assertThat(watch.getBeer().getQuantity(), is(equalTo(beer.getQuantity() + 3)));
+	}
+
+	@Test
+	void whenWatchIsBehindThenChangeIsReturnedFromMemory() throws Exception {
+		//given
+		BeerDTO beer = create("Watch Behind");
+		long version = body(beerWatchService.watch(beer.getId(), null, 1000)).getVersion();
+		beerService.deleteById(beer.getId());
+
+		//when
+		DeferredResult<ResponseEntity<BeerWatchDTO>> result = assertMaxStatements(0,
+				() -> beerWatchService.watch(beer.getId(), version, 60_000));
+
+		//then
+		assertThat(result.hasResult(), is(true));
+		assertThat(body(result).isDeleted(), is(true));
+	}
+
+	@Test
+	void whenWatchedVersionWasNeverIssuedThenCurrentStateIsReturnedAtOnce() throws Exception {
+		//given
+		BeerDTO beer = create("Watch Restart");
+		long version = body(beerWatchService.watch(beer.getId(), null, 1000)).getVersion();
+
+		//when
+		DeferredResult<ResponseEntity<BeerWatchDTO>> result = beerWatchService.watch(beer.getId(), version + 1_000_000, 60_000);
+
+		//then
+		assertThat(result.hasResult(), is(true));
+		assertThat(body(result).getBeer().getQuantity(), is(equalTo(beer.getQuantity())));
+	}
+
+	@Test
+	void whenWatchedBeerDoesNotExistThenNotFoundIsThrownInsteadOfParking() throws Exception {
+		//given
+		long version = body(beerWatchService.watch(create("Watch Known").getId(), null, 1000)).getVersion();
+
+		//then
+		assertThrows(BeerNotFoundException.class, () -> beerWatchService.watch(-1L, version, 60_000));
+	}
+
+	@Test
+	void whenDeletionWasAlreadySeenThenNotFoundIsThrown() throws Exception {
+		//given
+		BeerDTO beer = create("Watch Gone");
+		beerService.deleteById(beer.getId());
+		long deletedVersion = body(beerWatchService.watch(beer.getId(), 0L, 1000)).getVersion();
+
+		//then
+		assertThrows(BeerNotFoundException.class, () -> beerWatchService.watch(beer.getId(), deletedVersion, 60_000));
+	}
+
+	@Test
+	void whenChangesArriveOutOfOrderThenTheOlderOneIsDropped() throws Exception {
+		//given
+		BeerDTO beer = create("Watch Order");
+		DeferredResult<ResponseEntity<BeerWatchDTO>> parked = beerWatchService.watch(beer.getId(), 0L, 60_000);
+		Beer older = new Beer(beer.getId(), beer.getName(), beer.getBrand(), beer.getMax(), 11, beer.getType(), 1L);
+		Beer newer = new Beer(beer.getId(), beer.getName(), beer.getBrand(), beer.getMax(), 12, beer.getType(), 2L);
+
+		//when
+		beerWatchService.onBeerChange(BeerChangeEvent.stockChanged(newer, 11));
+		beerWatchService.onBeerChange(BeerChangeEvent.stockChanged(older, 10));
+		DeferredResult<ResponseEntity<BeerWatchDTO>> next = beerWatchService.watch(beer.getId(), 2L, 60_000);
+		beerWatchService.onBeerChange(BeerChangeEvent.deleted(newer));
+		beerWatchService.onBeerChange(BeerChangeEvent.stockChanged(newer, 11));
+
+		//then
+		assertThat(body(parked).getVersion(), is(equalTo(2L)));
+		assertThat(body(parked).getBeer().getQuantity(), is(equalTo(12)));
+		assertThat(body(next).isDeleted(), is(true));
+		assertThrows(BeerNotFoundException.class, () -> beerWatchService.watch(beer.getId(), 3L, 60_000));
+	}
+
+	private BeerDTO create(String name) throws Exception {
+		BeerDTO beer = BeerDTOBuilder.builder().build().toBeerDTO();
+		beer.setId(null);
+		beer.setName(name);
+		return beerService.createBeer(beer);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BeerWatchDTO body(DeferredResult<ResponseEntity<BeerWatchDTO>> result) {
+		ResponseEntity<BeerWatchDTO> response = (ResponseEntity<BeerWatchDTO>) result.getResult();
+		assertThat(response.getStatusCode(), is(HttpStatus.OK));
+		return response.getBody();
+	}
+}
@@ -0,0 +1,86 @@
+package one.digitalinnovation.beerstock.web;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class BulkheadTest {
+
+	@Test
+	void whenPermitsAreAvailableThenRequestIsAdmitted() {
+		Bulkhead bulkhead = new Bulkhead(2, 0, 0);
+
+		assertThat(bulkhead.tryEnter(), is(true));
+		assertThat(bulkhead.tryEnter(), is(true));
+		assertThat(bulkhead.getActive(), is(equalTo(2)));
+		assertThat(bulkhead.getSaturation(), is(equalTo(1.0)));
+	}
+
+	@Test
+	void whenLaneIsSaturatedAndQueueIsFullThenRequestIsRejected() {
+		Bulkhead bulkhead = new Bulkhead(1, 0, 1000);
+		bulkhead.tryEnter();
+
+		assertThat(bulkhead.tryEnter(), is(false));
+		assertThat(bulkhead.getRejected(), is(equalTo(1L)));
+	}
+
+	@Test
+	void whenPermitIsReleasedWhileQueuedThenQueuedRequestIsAdmitted() throws Exception {
+		Bulkhead bulkhead = new Bulkhead(1, 1, 5000);
+		bulkhead.tryEnter();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch started = new CountDownLatch(1);
+
+		try {
+			Future<Boolean> queued = executor.submit(() -> {
+				started.countDown();
+				return bulkhead.tryEnter();
+			});
+			started.await();
+			bulkhead.exit();
+
+			assertThat(queued.get(5, TimeUnit.SECONDS), is(true));
+			assertThat(bulkhead.getQueued(), is(equalTo(0)));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void whenBeerRequestsAreClassifiedThenTheyAreAssignedToTheirLanes() {
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers")), is(RequestLane.CATALOG_READ));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/Brahma")), is(RequestLane.POINT_LOOKUP));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("PATCH", "/api/v1/beers/1/increment")), is(RequestLane.STOCK_MUTATION));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/actuator/health")), is((RequestLane) null));
+	}
+
+	@Test
+	void whenScanningReadsAreClassifiedThenTheyUseTheCatalogLane() {
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/")), is(RequestLane.CATALOG_READ));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/filter")), is(RequestLane.CATALOG_READ));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/search")), is(RequestLane.CATALOG_READ));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/reports/42/download")), is(RequestLane.CATALOG_READ));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/7/watch")), is(RequestLane.CATALOG_READ));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/reports/42")), is(RequestLane.POINT_LOOKUP));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beersX")), is((RequestLane) null));
+	}
+
+	@Test
+	void whenImportOrReportCommandsAreClassifiedThenTheyUseTheBulkJobLane() {
+		assertThat(RequestLane.classify(new MockHttpServletRequest("POST", "/api/v1/beers/imports")), is(RequestLane.BULK_JOB));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("POST", "/api/v1/beers/imports/42/resume")), is(RequestLane.BULK_JOB));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("POST", "/api/v1/beers/reports")), is(RequestLane.BULK_JOB));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("POST", "/api/v1/beers")), is(RequestLane.STOCK_MUTATION));
+		assertThat(RequestLane.classify(new MockHttpServletRequest("GET", "/api/v1/beers/imports/42")), is(RequestLane.POINT_LOOKUP));
+	}
+}
@@ -0,0 +1,49 @@
+package one.digitalinnovation.beerstock.web;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import one.digitalinnovation.beerstock.exception.BeerNotFoundException;
+import one.digitalinnovation.beerstock.exception.BeerStockExceededException;
+
+class CompactErrorHandlerTest {
+
+	private final CompactErrorHandler handler = new CompactErrorHandler();
+
+	@Test
+	void whenDomainExceptionIsHandledThenTemplatedBodyIsWrittenWithItsStatus() throws Exception {
+		//given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		handler.handle(new BeerStockExceededException(7L, 30), response);
+
+		//then
+		assertThat(response.getStatus(), is(equalTo(400)));
+		assertThat(response.getContentType(), is(equalTo("application/json;charset=UTF-8")));
+		assertThat(response.getContentAsString(), is(equalTo("{\"status\":400,\"error\":\"Bad Request\","
+				+ "\"message\":\"Beer with ID 7 has quantity greater than stock capacity. Quantity to increment 30\"}")));
+	}
+
+	@Test
+	void whenMessageCarriesClientInputThenItIsEscaped() throws Exception {
+		//given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		BeerNotFoundException exception = new BeerNotFoundException("Say \"hi\"\\\n");
+
+		//when
+		handler.handle(exception, response);
+
+		//then
+		assertThat(response.getStatus(), is(equalTo(404)));
+		assertThat(response.getContentAsString(), is(equalTo("{\"status\":404,\"error\":\"Not Found\","
+				+ "\"message\":\"Beer with name Say \\\"hi\\\"\\\\\\u000a not found in the system.\"}")));
+		assertThat(exception.getStackTrace(), is(emptyArray()));
+		assertThat(exception.getMessage(), is(equalTo("Beer with name Say \"hi\"\\\n not found in the system.")));
+	}
+}
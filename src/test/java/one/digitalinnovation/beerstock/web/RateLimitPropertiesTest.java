@@ -0,0 +1,51 @@
+package one.digitalinnovation.beerstock.web;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import one.digitalinnovation.beerstock.config.RateLimitProperties;
+
+class RateLimitPropertiesTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(PropertiesConfiguration.class);
+
+	@Test
+	void whenBudgetsArePositiveThenTheyAreBound() {
+		contextRunner
+				.withPropertyValues("beerstock.rate-limit.budgets.stock-mutation.capacity=5",
+						"beerstock.rate-limit.budgets.stock-mutation.refill-per-second=0.5")
+				.run(context -> {
+					RateLimitProperties.Budget budget = context.getBean(RateLimitProperties.class).getBudget(RequestLane.STOCK_MUTATION);
+					assertThat(budget.getCapacity(), is(equalTo(5)));
+					assertThat(budget.getRefillPerSecond(), is(equalTo(0.5)));
+				});
+	}
+
+	@Test
+	void whenACapacityIsZeroThenStartupFails() {
+		contextRunner
+				.withPropertyValues("beerstock.rate-limit.budgets.stock-mutation.capacity=0")
+				.run(context -> assertThat(NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure()).getMessage(),
+						containsString("capacity': rejected value [0]")));
+	}
+
+	@Test
+	void whenARefillRateIsNegativeThenStartupFails() {
+		contextRunner
+				.withPropertyValues("beerstock.rate-limit.budgets.catalog-read.refill-per-second=-1")
+				.run(context -> assertThat(NestedExceptionUtils.getMostSpecificCause(context.getStartupFailure()).getMessage(),
+						containsString("refillPerSecond': rejected value [-1.0]")));
+	}
+
+	@EnableConfigurationProperties(RateLimitProperties.class)
+	static class PropertiesConfiguration {
+	}
+}
@@ -0,0 +1,59 @@
+package one.digitalinnovation.beerstock.web;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+	private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void whenBurstCapacityIsSpentThenNextTokenIsRejected() {
+		TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+		assertThat(bucket.tryAcquire(0), is(true));
+		assertThat(bucket.tryAcquire(0), is(true));
+		assertThat(bucket.tryAcquire(0), is(true));
+		assertThat(bucket.tryAcquire(0), is(false));
+	}
+
+	@Test
+	void whenTimePassesThenTokensAreRefilledAtTheConfiguredRate() {
+		TokenBucket bucket = new TokenBucket(1, 2, 0);
+		bucket.tryAcquire(0);
+
+		assertThat(bucket.tryAcquire(ONE_SECOND / 4), is(false));
+		assertThat(bucket.nanosUntilNextToken(ONE_SECOND / 4), is(equalTo(ONE_SECOND / 4)));
+		assertThat(bucket.tryAcquire(ONE_SECOND / 2), is(true));
+	}
+
+	@Test
+	void whenBucketIsIdleLongEnoughThenItIsFull() {
+		TokenBucket bucket = new TokenBucket(2, 1, 0);
+		bucket.tryAcquire(0);
+
+		assertThat(bucket.isFull(0), is(false));
+		assertThat(bucket.isFull(ONE_SECOND), is(true));
+	}
+
+	@Test
+	void whenMoreClientsThanTheBoundAreSeenThenIdleBucketsAreEvicted() {
+		AtomicLong clock = new AtomicLong();
+		RateLimiter limiter = new RateLimiter(1, 1, 2, clock::get);
+
+		limiter.tryAcquire("a");
+		limiter.tryAcquire("b");
+		clock.addAndGet(ONE_SECOND);
+		limiter.tryAcquire("c");
+
+		assertThat(limiter.getTrackedClients(), is(lessThanOrEqualTo(2)));
+		assertThat(limiter.tryAcquire("c"), is(false));
+	}
+}